@@ -99,6 +99,8 @@ public class GeyserModInjector extends GeyserInjector {
                         if (bootstrap.config().advanced().java().disableCompression()) {
                             ch.pipeline().addAfter(baseName, "geyser-compression-disabler", new GeyserModCompressionDisabler());
                         }
+
+                        removeFraming(ch, "splitter", "prepender");
                     }
                 })
                 // Set to MAX_PRIORITY as MultithreadEventLoopGroup#newDefaultThreadFactory which DefaultEventLoopGroup implements does by default
@@ -137,6 +139,11 @@ public class GeyserModInjector extends GeyserInjector {
         return childHandler;
     }
 
+    @Override
+    protected boolean supportsFramelessTransport(GeyserBootstrap bootstrap) {
+        return bootstrap.config().advanced().java().disableCompression();
+    }
+
     @Override
     public void shutdown() {
         if (this.allServerChannels != null) {
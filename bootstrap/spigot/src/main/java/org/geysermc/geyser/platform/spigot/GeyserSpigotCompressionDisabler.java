@@ -43,7 +43,7 @@ public class GeyserSpigotCompressionDisabler extends ChannelOutboundHandlerAdapt
 
     private static final Class<?> COMPRESSION_PACKET_CLASS;
     private static final Class<?> LOGIN_SUCCESS_PACKET_CLASS;
-    private static final boolean PROTOCOL_SUPPORT_INSTALLED;
+    static final boolean PROTOCOL_SUPPORT_INSTALLED;
 
     static {
         PROTOCOL_SUPPORT_INSTALLED = Bukkit.getPluginManager().getPlugin("ProtocolSupport") != null;
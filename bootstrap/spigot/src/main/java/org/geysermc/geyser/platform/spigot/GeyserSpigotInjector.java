@@ -130,6 +130,8 @@ public class GeyserSpigotInjector extends GeyserInjector {
                         if (bootstrap.config().advanced().java().disableCompression() && GeyserSpigotCompressionDisabler.ENABLED) {
                             ch.pipeline().addAfter(baseName, "geyser-compression-disabler", new GeyserSpigotCompressionDisabler());
                         }
+
+                        removeFraming(ch, "splitter", "prepender");
                     }
                 })
                 // Set to MAX_PRIORITY as MultithreadEventLoopGroup#newDefaultThreadFactory which DefaultEventLoopGroup implements does by default
@@ -187,6 +189,13 @@ public class GeyserSpigotInjector extends GeyserInjector {
         session.connect();
     }
 
+    @Override
+    protected boolean supportsFramelessTransport(GeyserBootstrap bootstrap) {
+        // ProtocolSupport sets up compression itself before we can remove it again
+        return bootstrap.config().advanced().java().disableCompression() && GeyserSpigotCompressionDisabler.ENABLED
+            && !GeyserSpigotCompressionDisabler.PROTOCOL_SUPPORT_INSTALLED;
+    }
+
     @Override
     public void shutdown() {
         if (this.allServerChannels != null) {
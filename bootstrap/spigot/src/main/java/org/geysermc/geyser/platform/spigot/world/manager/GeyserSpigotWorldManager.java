@@ -25,15 +25,21 @@
 
 package org.geysermc.geyser.platform.spigot.world.manager;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.DecoratedPot;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.geysermc.erosion.bukkit.BukkitUtils;
 import org.geysermc.erosion.bukkit.SchedulerUtils;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.GameRule;
 import org.geysermc.geyser.level.WorldManager;
@@ -41,8 +47,12 @@ import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.GameMode;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -51,15 +61,35 @@ import java.util.function.Consumer;
  */
 public class GeyserSpigotWorldManager extends WorldManager {
     private final Plugin plugin;
+    /**
+     * The Bukkit player of each session, so block lookups don't have to search the online players every time
+     */
+    private final Map<GeyserSession, Player> players = Collections.synchronizedMap(new WeakHashMap<>());
 
     public GeyserSpigotWorldManager(Plugin plugin) {
         this.plugin = plugin;
     }
 
+    /**
+     * @return the Bukkit player of this session, or null if they are not (or no longer) online
+     */
+    protected @Nullable Player getPlayer(GeyserSession session) {
+        Player bukkitPlayer = this.players.get(session);
+        if (bukkitPlayer == null || !bukkitPlayer.isOnline()) {
+            bukkitPlayer = Bukkit.getPlayerExact(session.getPlayerEntity().getUsername());
+            if (bukkitPlayer == null) {
+                this.players.remove(session);
+                return null;
+            }
+            this.players.put(session, bukkitPlayer);
+        }
+        return bukkitPlayer;
+    }
+
     @Override
     public int getBlockAt(GeyserSession session, int x, int y, int z) {
         Player bukkitPlayer;
-        if ((bukkitPlayer = Bukkit.getPlayer(session.getPlayerEntity().getUsername())) == null) {
+        if ((bukkitPlayer = getPlayer(session)) == null) {
             return org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID;
         }
         World world = bukkitPlayer.getWorld();
@@ -71,6 +101,91 @@ public class GeyserSpigotWorldManager extends WorldManager {
         return getBlockNetworkId(world.getBlockAt(x, y, z));
     }
 
+    /**
+     * Looks up a whole region at once: the player and world are resolved once, and each chunk is checked once. On Folia,
+     * the blocks of every chunk that isn't owned by this thread are read in one task on that chunk's region.
+     */
+    @Override
+    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+        int[] blocks = new int[iter.getMaxIterations()];
+        Player bukkitPlayer;
+        if ((bukkitPlayer = getPlayer(session)) == null) {
+            return blocks;
+        }
+        World world = bukkitPlayer.getWorld();
+
+        if (SchedulerUtils.FOLIA) {
+            getBlocksAtFolia(world, iter, blocks);
+            return blocks;
+        }
+
+        int lastChunkX = Integer.MIN_VALUE;
+        int lastChunkZ = Integer.MIN_VALUE;
+        boolean chunkLoaded = false;
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int z = iter.getZ();
+            if (x >> 4 != lastChunkX || z >> 4 != lastChunkZ) {
+                lastChunkX = x >> 4;
+                lastChunkZ = z >> 4;
+                chunkLoaded = world.isChunkLoaded(lastChunkX, lastChunkZ);
+            }
+            if (chunkLoaded) {
+                blocks[iter.getIteration()] = getBlockStateId(world.getBlockAt(x, iter.getY(), z));
+            }
+        }
+        return blocks;
+    }
+
+    private void getBlocksAtFolia(World world, BlockPositionIterator iter, int[] blocks) {
+        int[] xs = new int[blocks.length];
+        int[] ys = new int[blocks.length];
+        int[] zs = new int[blocks.length];
+        // Iterations of every chunk, so every region is only visited once
+        Long2ObjectMap<IntList> iterationsByChunk = new Long2ObjectOpenHashMap<>();
+        for (; iter.hasNext(); iter.next()) {
+            int i = iter.getIteration();
+            xs[i] = iter.getX();
+            ys[i] = iter.getY();
+            zs[i] = iter.getZ();
+            long chunkKey = ((long) (xs[i] >> 4) << 32) | ((zs[i] >> 4) & 0xFFFFFFFFL);
+            iterationsByChunk.computeIfAbsent(chunkKey, $ -> new IntArrayList()).add(i);
+        }
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (Long2ObjectMap.Entry<IntList> entry : iterationsByChunk.long2ObjectEntrySet()) {
+            int chunkX = (int) (entry.getLongKey() >> 32);
+            int chunkZ = (int) entry.getLongKey();
+            IntList iterations = entry.getValue();
+            Runnable lookup = () -> {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    return;
+                }
+                for (int j = 0; j < iterations.size(); j++) {
+                    int i = iterations.getInt(j);
+                    blocks[i] = getBlockStateId(world.getBlockAt(xs[i], ys[i], zs[i]));
+                }
+            };
+
+            if (Bukkit.isOwnedByCurrentRegion(world, chunkX, chunkZ)) {
+                lookup.run();
+            } else {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                Bukkit.getRegionScheduler().execute(this.plugin, world, chunkX, chunkZ, () -> {
+                    try {
+                        lookup.run();
+                    } finally {
+                        future.complete(null);
+                    }
+                });
+                pending.add(future);
+            }
+        }
+        if (!pending.isEmpty()) {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        }
+    }
+
     public int getBlockNetworkId(Block block) {
         if (SchedulerUtils.FOLIA && !Bukkit.isOwnedByCurrentRegion(block)) {
             // Terrible behavior, but this is basically what's always been happening behind the scenes anyway.
@@ -78,6 +193,10 @@ public class GeyserSpigotWorldManager extends WorldManager {
             Bukkit.getRegionScheduler().execute(this.plugin, block.getLocation(), () -> blockData.complete(block.getBlockData().getAsString()));
             return BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.getOrDefault(blockData.join(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
         }
+        return getBlockStateId(block);
+    }
+
+    private static int getBlockStateId(Block block) {
         return BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.getOrDefault(block.getBlockData().getAsString(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID); // TODO could just make this a BlockState lookup?
     }
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.command.defaults;
+
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.util.TriState;
+import org.geysermc.geyser.command.GeyserCommand;
+import org.geysermc.geyser.command.GeyserCommandSource;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.text.ChatColor;
+import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.translator.protocol.PacketMetrics;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.suggestion.SuggestionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+public class PerfCommand extends GeyserCommand {
+
+    private static final String ARGUMENT = "option";
+    private static final List<String> OPTIONS = List.of("enable", "disable", "reset");
+    private static final int SHOWN_PACKETS = 10;
+
+    private final GeyserImpl geyser;
+
+    public PerfCommand(GeyserImpl geyser, String name, String description, String permission) {
+        super(name, description, permission, TriState.NOT_SET);
+        this.geyser = geyser;
+    }
+
+    @Override
+    public void register(CommandManager<GeyserCommandSource> manager) {
+        manager.command(baseBuilder(manager)
+            .optional(ARGUMENT, stringParser(), SuggestionProvider.blockingStrings((ctx, input) -> {
+                List<String> suggestions = new ArrayList<>(OPTIONS);
+                for (GeyserSession session : geyser.getSessionManager().getAllSessions()) {
+                    suggestions.add(session.bedrockUsername());
+                }
+                return suggestions;
+            }))
+            .handler(this::execute));
+    }
+
+    @Override
+    public void execute(CommandContext<GeyserCommandSource> context) {
+        GeyserCommandSource source = context.sender();
+        String option = context.getOrDefault(ARGUMENT, null);
+
+        if (option == null) {
+            sendMetrics(source, GeyserLocale.getPlayerLocaleString("geyser.commands.perf.all_sessions", source.locale()), PacketMetrics.global());
+            return;
+        }
+
+        switch (option.toLowerCase(Locale.ROOT)) {
+            case "enable" -> {
+                PacketMetrics.setEnabled(true);
+                source.sendMessage(GeyserLocale.getPlayerLocaleString("geyser.commands.perf.enabled", source.locale()));
+            }
+            case "disable" -> {
+                PacketMetrics.setEnabled(false);
+                source.sendMessage(GeyserLocale.getPlayerLocaleString("geyser.commands.perf.disabled", source.locale()));
+            }
+            case "reset" -> {
+                PacketMetrics.resetGlobal();
+                for (GeyserSession session : geyser.getSessionManager().getAllSessions()) {
+                    session.getPacketMetrics().reset();
+                }
+                source.sendMessage(GeyserLocale.getPlayerLocaleString("geyser.commands.perf.reset", source.locale()));
+            }
+            default -> {
+                for (GeyserSession session : geyser.getSessionManager().getAllSessions()) {
+                    if (session.bedrockUsername().equalsIgnoreCase(option)) {
+                        sendMetrics(source, session.bedrockUsername(), session.getPacketMetrics());
+                        return;
+                    }
+                }
+                source.sendMessage(ChatColor.RED + GeyserLocale.getPlayerLocaleString("geyser.commands.perf.invalid", source.locale(), option, String.join(", ", OPTIONS)));
+            }
+        }
+    }
+
+    private void sendMetrics(GeyserCommandSource source, String target, PacketMetrics metrics) {
+        if (!PacketMetrics.isEnabled()) {
+            source.sendMessage(ChatColor.YELLOW + GeyserLocale.getPlayerLocaleString("geyser.commands.perf.not_recording", source.locale(), "/geyser perf enable"));
+        }
+
+        List<PacketMetrics.Snapshot> snapshots = metrics.snapshot();
+        if (snapshots.isEmpty()) {
+            source.sendMessage(GeyserLocale.getPlayerLocaleString("geyser.commands.perf.empty", source.locale(), target));
+            return;
+        }
+
+        source.sendMessage(ChatColor.AQUA + GeyserLocale.getPlayerLocaleString("geyser.commands.perf.header", source.locale(), target));
+        for (int i = 0; i < Math.min(SHOWN_PACKETS, snapshots.size()); i++) {
+            PacketMetrics.Snapshot snapshot = snapshots.get(i);
+            source.sendMessage(String.format(Locale.ROOT, "%s%s%s: %d, %.1f, %d/%d/%d/%d, %s",
+                ChatColor.GREEN, snapshot.packetName(), ChatColor.RESET, snapshot.count(), snapshot.totalNanos() / 1_000_000d,
+                snapshot.meanNanos() / 1000, snapshot.p50Nanos() / 1000, snapshot.p99Nanos() / 1000, snapshot.maxNanos() / 1000,
+                snapshot.queuedCount() == 0 ? "-" : String.valueOf(snapshot.meanQueueNanos() / 1000)));
+        }
+    }
+}
@@ -45,11 +45,14 @@ import org.geysermc.geyser.api.GeyserApi;
 import org.geysermc.geyser.api.extension.Extension;
 import org.geysermc.geyser.api.util.MinecraftVersion;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.PlayerEventLoopBalancer;
 import org.geysermc.geyser.pack.ResourcePackHolder;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkCache;
 import org.geysermc.geyser.text.AsteriskSerializer;
+import org.geysermc.geyser.translator.protocol.PacketMetrics;
 import org.geysermc.geyser.util.CpuUtils;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
@@ -90,6 +93,9 @@ public class DumpInfo {
     private final int connectionAttempts;
     private final String hash;
     private final RamInfo ramInfo;
+    private final ChunkCacheInfo chunkCacheInfo;
+    private final PacketMetricsInfo packetMetricsInfo;
+    private final PlayerEventLoopInfo playerEventLoopInfo;
     private LogsInfo logsInfo;
     private final BootstrapDumpInfo bootstrapInfo;
     private final FlagsInfo flagsInfo;
@@ -138,6 +144,9 @@ public class DumpInfo {
         this.hash = sha256Hash;
 
         this.ramInfo = new RamInfo();
+        this.chunkCacheInfo = new ChunkCacheInfo(geyser);
+        this.packetMetricsInfo = new PacketMetricsInfo();
+        this.playerEventLoopInfo = new PlayerEventLoopInfo(geyser);
 
         if (addLog) {
             this.logsInfo = new LogsInfo(geyser);
@@ -318,6 +327,37 @@ public class DumpInfo {
         }
     }
 
+    public record ChunkCacheInfo(boolean compact, long totalMemory, long largestSessionMemory) {
+        public ChunkCacheInfo(GeyserImpl geyser) {
+            this(ChunkCache.COMPACT, ChunkCache.getGlobalMemoryUsage() / MEGABYTE,
+                geyser.getSessionManager().getAllSessions().stream()
+                    .mapToLong(session -> session.getChunkCache().getMemoryUsage())
+                    .max().orElse(0) / MEGABYTE);
+        }
+    }
+
+    /**
+     * The most expensive packet translators of all sessions, if packet metrics have been recorded
+     */
+    public record PacketMetricsInfo(boolean enabled, List<PacketMetrics.Snapshot> packets) {
+        private static final int MAX_PACKETS = 25;
+
+        public PacketMetricsInfo() {
+            this(PacketMetrics.isEnabled(), PacketMetrics.global().snapshot().stream().limit(MAX_PACKETS).toList());
+        }
+    }
+
+    /**
+     * How many sessions each player event loop holds and how busy it is
+     */
+    public record PlayerEventLoopInfo(List<PlayerEventLoopBalancer.Snapshot> loops) {
+
+        public PlayerEventLoopInfo(GeyserImpl geyser) {
+            this(geyser.getGeyserServer() == null || geyser.getGeyserServer().getPlayerLoopBalancer() == null ?
+                List.of() : geyser.getGeyserServer().getPlayerLoopBalancer().snapshot());
+        }
+    }
+
     /**
      * E.G. `-Xmx1024M` - all runtime JVM flags on this machine
      */
@@ -89,8 +89,10 @@ public class FishingHookEntity extends ThrowableEntity {
 
         boolean touchingWater = false;
         boolean collided = false;
-        for (BlockPositionIterator iter = session.getCollisionManager().collidableBlocksIterator(boundingBox); iter.hasNext(); iter.next()) {
-            int blockID = session.getGeyser().getWorldManager().getBlockAt(session, iter.getX(), iter.getY(), iter.getZ());
+        BlockPositionIterator iter = session.getCollisionManager().collidableBlocksIterator(boundingBox);
+        int[] blocks = session.getGeyser().getWorldManager().getBlocksAt(session, iter);
+        for (iter.reset(); iter.hasNext(); iter.next()) {
+            int blockID = blocks[iter.getIteration()];
             BlockCollision blockCollision = BlockUtils.getCollision(blockID);
             if (blockCollision != null) {
                 if (blockCollision.checkIntersection(iter.getX(), iter.getY(), iter.getZ(), boundingBox)) {
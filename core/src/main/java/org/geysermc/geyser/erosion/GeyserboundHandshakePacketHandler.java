@@ -52,7 +52,10 @@ public final class GeyserboundHandshakePacketHandler extends AbstractGeyserbound
             handler.onConnect();
         }
         session.setErosionHandler(handler);
-        session.ensureInEventLoop(() -> session.getChunkCache().clear());
+        session.ensureInEventLoop(() -> {
+            session.getSubChunkCache().clear();
+            session.getChunkCache().clear();
+        });
     }
 
     @Override
@@ -40,6 +40,7 @@ import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.ItemMapping;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.BundleCache;
+import org.geysermc.geyser.session.cache.ItemTranslationCache;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.tags.Tag;
 import org.geysermc.geyser.translator.item.ItemTranslator;
@@ -249,7 +250,12 @@ public class GeyserItemStack {
         if (isEmpty()) {
             return ItemData.AIR;
         }
-        ItemData.Builder itemData = ItemTranslator.translateToBedrock(session, javaId, amount, components);
+        ItemData.Builder itemData;
+        if (bundleData == null && ItemTranslationCache.canCache(javaId)) {
+            itemData = session.getItemTranslationCache().translate(javaId, amount, components).toBuilder();
+        } else {
+            itemData = ItemTranslator.translateToBedrock(session, javaId, amount, components);
+        }
         itemData.netId(getNetId());
         itemData.usingNetId(true);
 
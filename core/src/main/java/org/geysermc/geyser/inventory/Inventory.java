@@ -29,8 +29,10 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.inventory.click.ClickPlan;
 import org.geysermc.geyser.item.Items;
@@ -41,6 +43,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponen
 import org.jetbrains.annotations.Range;
 
 import java.util.Arrays;
+import java.util.List;
 
 @ToString
 public abstract class Inventory {
@@ -101,6 +104,15 @@ public abstract class Inventory {
     @Setter
     private boolean displayed;
 
+    /**
+     * The container contents as the Bedrock client last received them, if later updates may only send the slots
+     * that changed. See {@link org.geysermc.geyser.inventory.updater.InventoryUpdater#sendContainerContents(GeyserSession, Inventory, List)}.
+     */
+    @Getter
+    @Setter
+    @ToString.Exclude
+    private @Nullable List<ItemData> sentContents;
+
     protected Inventory(GeyserSession session, int id, int size, ContainerType containerType) {
         this(session, "Inventory", id, size, containerType);
     }
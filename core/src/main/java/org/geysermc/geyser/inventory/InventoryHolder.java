@@ -112,6 +112,8 @@ public final class InventoryHolder<T extends Inventory> {
         this.translator.openInventory(session, inventory);
         this.pending = false;
         this.inventory.setDisplayed(true);
+        // Whatever was sent before opening never reached the client
+        this.inventory.setSentContents(null);
     }
 
     public void closeInventory(boolean force) {
@@ -27,8 +27,6 @@ package org.geysermc.geyser.inventory.updater;
 
 import lombok.AllArgsConstructor;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
-import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
-import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
 import org.geysermc.geyser.inventory.Inventory;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
@@ -58,10 +56,7 @@ public class ChestInventoryUpdater extends InventoryUpdater {
             }
         }
 
-        InventoryContentPacket contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(inventory.getBedrockId());
-        contentPacket.setContents(bedrockItems);
-        session.sendUpstreamPacket(contentPacket);
+        sendContainerContents(session, inventory, bedrockItems);
     }
 
     @Override
@@ -69,11 +64,7 @@ public class ChestInventoryUpdater extends InventoryUpdater {
         if (super.updateSlot(translator, session, inventory, javaSlot))
             return true;
 
-        InventorySlotPacket slotPacket = new InventorySlotPacket();
-        slotPacket.setContainerId(inventory.getBedrockId());
-        slotPacket.setSlot(translator.javaSlotToBedrock(javaSlot));
-        slotPacket.setItem(inventory.getItem(javaSlot).getItemData(session));
-        session.sendUpstreamPacket(slotPacket);
+        sendContainerSlot(session, inventory, translator.javaSlotToBedrock(javaSlot), inventory.getItem(javaSlot).getItemData(session));
         return true;
     }
 }
@@ -32,10 +32,18 @@ import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
 import org.geysermc.geyser.inventory.Inventory;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.inventory.InventoryTranslator;
+import org.jetbrains.annotations.VisibleForTesting;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 public class InventoryUpdater {
+    /**
+     * Whether container content updates should only send the slots that changed since the contents were last sent.
+     */
+    private static final boolean DIFF_CONTAINER_UPDATES = Boolean.getBoolean("Geyser.DiffContainerUpdates");
+
     public void updateInventory(InventoryTranslator<?> translator, GeyserSession session, Inventory inventory) {
         ItemData[] bedrockItems = new ItemData[36];
         for (int i = 0; i < 36; i++) {
@@ -59,4 +67,71 @@ public class InventoryUpdater {
         }
         return false;
     }
+
+    /**
+     * Sends the contents of a container. If enabled, and the client received the previous contents of this container,
+     * only the slots that changed are sent - unless most of them changed.
+     */
+    public static void sendContainerContents(GeyserSession session, Inventory inventory, List<ItemData> contents) {
+        sendContainerContents(session, inventory, contents, DIFF_CONTAINER_UPDATES);
+    }
+
+    @VisibleForTesting
+    static void sendContainerContents(GeyserSession session, Inventory inventory, List<ItemData> contents, boolean diff) {
+        if (!inventory.isDisplayed()) {
+            // The client drops contents of containers it hasn't opened yet (e.g. pending virtual inventories),
+            // so we can't know what it has once the container opens
+            inventory.setSentContents(null);
+        } else if (diff) {
+            List<ItemData> sentContents = inventory.getSentContents();
+            inventory.setSentContents(new ArrayList<>(contents));
+            if (sentContents != null && sentContents.size() == contents.size()) {
+                int changedSlots = 0;
+                for (int i = 0; i < contents.size(); i++) {
+                    if (!contents.get(i).equals(sentContents.get(i))) {
+                        changedSlots++;
+                    }
+                }
+
+                if (changedSlots <= contents.size() / 2) {
+                    for (int i = 0; i < contents.size(); i++) {
+                        ItemData item = contents.get(i);
+                        if (!item.equals(sentContents.get(i))) {
+                            InventorySlotPacket slotPacket = new InventorySlotPacket();
+                            slotPacket.setContainerId(inventory.getBedrockId());
+                            slotPacket.setSlot(i);
+                            slotPacket.setItem(item);
+                            session.sendUpstreamPacket(slotPacket);
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+
+        InventoryContentPacket contentPacket = new InventoryContentPacket();
+        contentPacket.setContainerId(inventory.getBedrockId());
+        contentPacket.setContents(contents);
+        session.sendUpstreamPacket(contentPacket);
+    }
+
+    /**
+     * Sends a single slot of a container, and keeps track of it for {@link #sendContainerContents(GeyserSession, Inventory, List)}.
+     */
+    public static void sendContainerSlot(GeyserSession session, Inventory inventory, int bedrockSlot, ItemData item) {
+        List<ItemData> sentContents = inventory.getSentContents();
+        if (sentContents != null) {
+            if (inventory.isDisplayed() && bedrockSlot >= 0 && bedrockSlot < sentContents.size()) {
+                sentContents.set(bedrockSlot, item);
+            } else {
+                inventory.setSentContents(null);
+            }
+        }
+
+        InventorySlotPacket slotPacket = new InventorySlotPacket();
+        slotPacket.setContainerId(inventory.getBedrockId());
+        slotPacket.setSlot(bedrockSlot);
+        slotPacket.setItem(item);
+        session.sendUpstreamPacket(slotPacket);
+    }
 }
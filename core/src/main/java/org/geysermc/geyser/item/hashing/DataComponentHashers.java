@@ -41,6 +41,7 @@ import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.item.components.Rarity;
 import org.geysermc.geyser.level.block.Blocks;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ComponentHashCache;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.util.MinecraftKey;
 import org.geysermc.mcprotocollib.protocol.data.game.Holder;
@@ -309,7 +310,7 @@ public class DataComponentHashers {
 
     public static <T> HashCode hash(GeyserSession session, DataComponentType<T> component, T value) {
         try {
-            return hasher(component).hash(value, new MinecraftHashEncoder(session.getRegistryCache()));
+            return hasher(component).hash(value, session.getComponentHashCache().encoder());
         } catch (Exception exception) {
             GeyserImpl.getInstance().getLogger().error("Failed to hash item data component " + component.getKey() + " with value " + value + "!");
             GeyserImpl.getInstance().getLogger().error("This is a Geyser bug, please report this!");
@@ -326,19 +327,27 @@ public class DataComponentHashers {
         if (patch == null) {
             return new HashedStack(stack.getId(), stack.getAmount(), Map.of(), Set.of());
         }
+        ComponentHashCache.HashedComponents hashed = session.getComponentHashCache().hash(patch);
+        return new HashedStack(stack.getId(), stack.getAmount(), hashed.additions(), hashed.removals());
+    }
+
+    /**
+     * Hashes every component in an item stack patch. Prefer {@link #hashStack(GeyserSession, ItemStack)}, which caches the result.
+     */
+    public static ComponentHashCache.HashedComponents hashComponents(GeyserSession session, DataComponents patch) {
         Map<DataComponentType<?>, DataComponent<?, ?>> components = patch.getDataComponents();
         Map<DataComponentType<?>, Integer> hashedAdditions = new HashMap<>();
         Set<DataComponentType<?>> removals = new HashSet<>();
         for (Map.Entry<DataComponentType<?>, DataComponent<?, ?>> component : components.entrySet()) {
             if (NOT_HASHED.contains(component.getKey())) {
-                GeyserImpl.getInstance().getLogger().debug("Not hashing component " + component.getKey() + " on stack " + stack);
+                GeyserImpl.getInstance().getLogger().debug("Not hashing component " + component.getKey() + " with value " + component.getValue());
             } else if (component.getValue().getValue() == null) {
                 removals.add(component.getKey());
             } else {
                 hashedAdditions.put(component.getKey(), hash(session, (DataComponentType) component.getKey(), component.getValue().getValue()).asInt());
             }
         }
-        return new HashedStack(stack.getId(), stack.getAmount(), hashedAdditions, removals);
+        return new ComponentHashCache.HashedComponents(Map.copyOf(hashedAdditions), Set.copyOf(removals));
     }
 
     // TODO better testing
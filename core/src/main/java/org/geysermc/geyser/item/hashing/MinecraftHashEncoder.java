@@ -26,8 +26,6 @@
 package org.geysermc.geyser.item.hashing;
 
 import com.google.common.hash.HashCode;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import org.cloudburstmc.nbt.NbtList;
 import org.cloudburstmc.nbt.NbtMap;
@@ -35,15 +33,21 @@ import org.cloudburstmc.nbt.NbtType;
 import org.geysermc.geyser.session.cache.registry.JavaRegistryProvider;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.CRC32C;
 
 /**
- * Encodes primitive Java objects, lists, and maps into a {@link HashCode}, using {@link Hashing#crc32c()} as hash function.
+ * Encodes primitive Java objects, lists, and maps into a {@link HashCode}, using the CRC32C checksum as hash function.
  *
  * <p>Based off the {@code HashOps} class in vanilla Java 1.21.5, and is used by {@link MinecraftHasher}.</p>
+ *
+ * <p>Produces the same hashes as {@link Hashing#crc32c()}, but streams values into a single reusable checksum instead of
+ * creating a new hasher (and byte arrays for every nested hash) each time. Because of that, an encoder must not be used
+ * by multiple threads at once. Nested values are always hashed before the map or list containing them, so
+ * {@link MinecraftHasher}s can freely use the encoder recursively.</p>
  */
 @SuppressWarnings("UnstableApiUsage")
 public class MinecraftHashEncoder {
@@ -67,31 +71,36 @@ public class MinecraftHashEncoder {
     private static final byte TAG_LONG_ARRAY_START = 18;
     private static final byte TAG_LONG_ARRAY_END = 19;
 
-    private static final Comparator<HashCode> HASH_COMPARATOR = Comparator.comparingLong(HashCode::padToLong);
-    private static final Comparator<Map.Entry<HashCode, HashCode>> MAP_ENTRY_ORDER = Map.Entry.<HashCode, HashCode>comparingByKey(HASH_COMPARATOR)
-        .thenComparing(Map.Entry.comparingByValue(HASH_COMPARATOR));
-
     private static final byte[] EMPTY = new byte[]{TAG_EMPTY};
     public static final byte[] EMPTY_MAP = new byte[]{TAG_MAP_START, TAG_MAP_END};
     private static final byte[] FALSE = new byte[]{TAG_BOOLEAN, 0};
     private static final byte[] TRUE = new byte[]{TAG_BOOLEAN, 1};
 
-    private final HashFunction hasher;
+    private static final HashCode EMPTY_HASH = Hashing.crc32c().hashBytes(EMPTY);
+    private static final HashCode EMPTY_MAP_HASH = Hashing.crc32c().hashBytes(EMPTY_MAP);
+    private static final HashCode FALSE_HASH = Hashing.crc32c().hashBytes(FALSE);
+    private static final HashCode TRUE_HASH = Hashing.crc32c().hashBytes(TRUE);
+
+    /**
+     * Hashes of small integers (item counts, damage values, enchantment levels...) are looked up instead of calculated.
+     */
+    private static final int CACHED_INT_MIN = -128;
+    private static final HashCode[] CACHED_INTS = new HashCode[1152];
+
+    static {
+        for (int i = 0; i < CACHED_INTS.length; i++) {
+            CACHED_INTS[i] = Hashing.crc32c().newHasher(5).putByte(TAG_INT).putInt(CACHED_INT_MIN + i).hash();
+        }
+    }
+
     private final JavaRegistryProvider registries;
 
-    private final HashCode empty;
-    private final HashCode emptyMap;
-    private final HashCode falseHash;
-    private final HashCode trueHash;
+    private final CRC32C checksum = new CRC32C();
+    private final byte[] buffer = new byte[256];
+    private int position;
 
     public MinecraftHashEncoder(JavaRegistryProvider registries) {
-        hasher = Hashing.crc32c();
         this.registries = registries;
-
-        empty = hasher.hashBytes(EMPTY);
-        emptyMap = hasher.hashBytes(EMPTY_MAP);
-        falseHash = hasher.hashBytes(FALSE);
-        trueHash = hasher.hashBytes(TRUE);
     }
 
     public JavaRegistryProvider registries() {
@@ -99,45 +108,75 @@ public class MinecraftHashEncoder {
     }
 
     public HashCode empty() {
-        return empty;
+        return EMPTY_HASH;
     }
 
     public HashCode emptyMap() {
-        return emptyMap;
+        return EMPTY_MAP_HASH;
     }
 
     public HashCode number(Number number) {
         if (number instanceof Byte b) {
-            return hasher.newHasher(2).putByte(TAG_BYTE).putByte(b).hash();
+            start(TAG_BYTE);
+            putByte(b);
         } else if (number instanceof Short s) {
-            return hasher.newHasher(3).putByte(TAG_SHORT).putShort(s).hash();
+            start(TAG_SHORT);
+            putShort(s);
         } else if (number instanceof Integer i) {
-            return hasher.newHasher(5).putByte(TAG_INT).putInt(i).hash();
+            int index = i - CACHED_INT_MIN;
+            if (index >= 0 && index < CACHED_INTS.length) {
+                return CACHED_INTS[index];
+            }
+            start(TAG_INT);
+            putInt(i);
         } else if (number instanceof Long l) {
-            return hasher.newHasher(9).putByte(TAG_LONG).putLong(l).hash();
+            start(TAG_LONG);
+            putLong(l);
         } else if (number instanceof Float f) {
-            return hasher.newHasher(5).putByte(TAG_FLOAT).putFloat(f).hash();
+            start(TAG_FLOAT);
+            putInt(Float.floatToRawIntBits(f));
+        } else {
+            start(TAG_DOUBLE);
+            putLong(Double.doubleToRawLongBits(number.doubleValue()));
         }
-
-        return hasher.newHasher(9).putByte(TAG_DOUBLE).putDouble(number.doubleValue()).hash();
+        return finish();
     }
 
     public HashCode string(String string) {
-        return hasher.newHasher().putByte(TAG_STRING).putInt(string.length()).putUnencodedChars(string).hash();
+        start(TAG_STRING);
+        putInt(string.length());
+        for (int i = 0; i < string.length(); i++) {
+            putShort((short) string.charAt(i));
+        }
+        return finish();
     }
 
     public HashCode bool(boolean b) {
-        return b ? trueHash : falseHash;
+        return b ? TRUE_HASH : FALSE_HASH;
     }
 
     public HashCode map(Map<HashCode, HashCode> map) {
-        Hasher mapHasher = hasher.newHasher();
-        mapHasher.putByte(TAG_MAP_START);
-        map.entrySet().stream()
-            .sorted(MAP_ENTRY_ORDER)
-            .forEach(entry -> mapHasher.putBytes(entry.getKey().asBytes()).putBytes(entry.getValue().asBytes()));
-        mapHasher.putByte(TAG_MAP_END);
-        return mapHasher.hash();
+        if (map.isEmpty()) {
+            return EMPTY_MAP_HASH;
+        }
+
+        // Entries are ordered by their key hash, then their value hash, both compared as unsigned integers.
+        // Packing both into a long (with the sign bit flipped, so signed order matches unsigned order) lets us sort them without boxing
+        long[] entries = new long[map.size()];
+        int i = 0;
+        for (Map.Entry<HashCode, HashCode> entry : map.entrySet()) {
+            entries[i++] = ((long) entry.getKey().asInt() << 32 | (entry.getValue().asInt() & 0xFFFFFFFFL)) ^ Long.MIN_VALUE;
+        }
+        Arrays.sort(entries);
+
+        start(TAG_MAP_START);
+        for (long entry : entries) {
+            entry ^= Long.MIN_VALUE;
+            putInt((int) (entry >>> 32));
+            putInt((int) entry);
+        }
+        putByte(TAG_MAP_END);
+        return finish();
     }
 
     public HashCode nbtMap(NbtMap map) {
@@ -161,40 +200,34 @@ public class MinecraftHashEncoder {
     }
 
     public HashCode list(List<HashCode> list) {
-        Hasher listHasher = hasher.newHasher();
-        listHasher.putByte(TAG_LIST_START);
-        list.forEach(hash -> listHasher.putBytes(hash.asBytes()));
-        listHasher.putByte(TAG_LIST_END);
-        return listHasher.hash();
+        start(TAG_LIST_START);
+        for (HashCode hash : list) {
+            putInt(hash.asInt());
+        }
+        putByte(TAG_LIST_END);
+        return finish();
     }
 
-    // TODO can this be written better?
-    @SuppressWarnings("unchecked")
     public HashCode nbtList(NbtList<?> nbtList) {
         NbtType<?> type = nbtList.getType();
-        List<HashCode> hashed = new ArrayList<>();
-
-        if (type == NbtType.BYTE) {
-            hashed.addAll(((List<Byte>) nbtList).stream().map(this::number).toList());
-        } else if (type == NbtType.SHORT) {
-            hashed.addAll(((List<Short>) nbtList).stream().map(this::number).toList());
-        } else if (type == NbtType.INT) {
-            hashed.addAll(((List<Integer>) nbtList).stream().map(this::number).toList());
-        } else if (type == NbtType.LONG) {
-            hashed.addAll(((List<Long>) nbtList).stream().map(this::number).toList());
-        } else if (type == NbtType.FLOAT) {
-            hashed.addAll(((List<Float>) nbtList).stream().map(this::number).toList());
-        } else if (type == NbtType.DOUBLE) {
-            hashed.addAll(((List<Double>) nbtList).stream().map(this::number).toList());
+        List<HashCode> hashed = new ArrayList<>(nbtList.size());
+
+        if (type == NbtType.BYTE || type == NbtType.SHORT || type == NbtType.INT
+            || type == NbtType.LONG || type == NbtType.FLOAT || type == NbtType.DOUBLE) {
+            for (Object number : nbtList) {
+                hashed.add(number((Number) number));
+            }
         } else if (type == NbtType.STRING) {
-            hashed.addAll(((List<String>) nbtList).stream().map(this::string).toList());
+            for (Object string : nbtList) {
+                hashed.add(string((String) string));
+            }
         } else if (type == NbtType.LIST) {
-            for (NbtList<?> list : (List<NbtList<?>>) nbtList) {
-                hashed.add(nbtList(list));
+            for (Object list : nbtList) {
+                hashed.add(nbtList((NbtList<?>) list));
             }
         } else if (type == NbtType.COMPOUND) {
-            for (NbtMap compound : (List<NbtMap>) nbtList) {
-                hashed.add(nbtMap(compound));
+            for (Object compound : nbtList) {
+                hashed.add(nbtMap((NbtMap) compound));
             }
         }
 
@@ -202,30 +235,78 @@ public class MinecraftHashEncoder {
     }
 
     public HashCode byteArray(byte[] bytes) {
-        Hasher arrayHasher = hasher.newHasher();
-        arrayHasher.putByte(TAG_BYTE_ARRAY_START);
-        arrayHasher.putBytes(bytes);
-        arrayHasher.putByte(TAG_BYTE_ARRAY_END);
-        return arrayHasher.hash();
+        start(TAG_BYTE_ARRAY_START);
+        flush();
+        checksum.update(bytes, 0, bytes.length);
+        putByte(TAG_BYTE_ARRAY_END);
+        return finish();
     }
 
     public HashCode intArray(int[] ints) {
-        Hasher arrayHasher = hasher.newHasher();
-        arrayHasher.putByte(TAG_INT_ARRAY_START);
+        start(TAG_INT_ARRAY_START);
         for (int i : ints) {
-            arrayHasher.putInt(i);
+            putInt(i);
         }
-        arrayHasher.putByte(TAG_INT_ARRAY_END);
-        return arrayHasher.hash();
+        putByte(TAG_INT_ARRAY_END);
+        return finish();
     }
 
     public HashCode longArray(long[] longs) {
-        Hasher arrayHasher = hasher.newHasher();
-        arrayHasher.putByte(TAG_LONG_ARRAY_START);
+        start(TAG_LONG_ARRAY_START);
         for (long l : longs) {
-            arrayHasher.putLong(l);
+            putLong(l);
+        }
+        putByte(TAG_LONG_ARRAY_END);
+        return finish();
+    }
+
+    /*
+     * Streaming into the checksum. Like Guava's hashers, all values are written little-endian.
+     */
+
+    private void start(byte tag) {
+        checksum.reset();
+        position = 0;
+        buffer[position++] = tag;
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            flush();
         }
-        arrayHasher.putByte(TAG_LONG_ARRAY_END);
-        return arrayHasher.hash();
+    }
+
+    private void flush() {
+        checksum.update(buffer, 0, position);
+        position = 0;
+    }
+
+    private void putByte(byte b) {
+        ensure(1);
+        buffer[position++] = b;
+    }
+
+    private void putShort(short s) {
+        ensure(2);
+        buffer[position++] = (byte) s;
+        buffer[position++] = (byte) (s >> 8);
+    }
+
+    private void putInt(int i) {
+        ensure(4);
+        buffer[position++] = (byte) i;
+        buffer[position++] = (byte) (i >> 8);
+        buffer[position++] = (byte) (i >> 16);
+        buffer[position++] = (byte) (i >> 24);
+    }
+
+    private void putLong(long l) {
+        putInt((int) l);
+        putInt((int) (l >>> 32));
+    }
+
+    private HashCode finish() {
+        flush();
+        return HashCode.fromInt((int) checksum.getValue());
     }
 }
@@ -73,7 +73,9 @@ public class GeyserWorldManager extends WorldManager {
     public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
         var erosionHandler = session.getErosionHandler().getAsActive();
         if (erosionHandler == null) {
-            return super.getBlocksAt(session, iter);
+            int[] blocks = new int[iter.getMaxIterations()];
+            session.getChunkCache().getBlocksAt(iter, blocks);
+            return blocks;
         } else if (session.isClosed()) {
             throw new ErosionCancellationException();
         }
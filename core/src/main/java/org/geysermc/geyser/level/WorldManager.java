@@ -99,6 +99,15 @@ public abstract class WorldManager {
         return CompletableFuture.completedFuture(this.getBlockAt(session, x, y, z));
     }
 
+    /**
+     * Gets the Java block states of all remaining positions of the iterator in one go.
+     * Implementations should override this if they can resolve the region faster than calling
+     * {@link #getBlockAt(GeyserSession, int, int, int)} for each position.
+     *
+     * @param session the session
+     * @param iter the positions to get the blocks at
+     * @return the block states, indexed by {@link BlockPositionIterator#getIteration()}
+     */
     public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
         int[] blocks = new int[iter.getMaxIterations()];
         for (; iter.hasNext(); iter.next()) {
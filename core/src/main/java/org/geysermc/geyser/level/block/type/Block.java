@@ -40,6 +40,7 @@ import org.geysermc.geyser.level.block.property.IntegerProperty;
 import org.geysermc.geyser.level.block.property.Property;
 import org.geysermc.geyser.level.physics.PistonBehavior;
 import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.tags.Tag;
@@ -135,7 +136,7 @@ public class Block {
         UpdateBlockPacket waterPacket = new UpdateBlockPacket();
         waterPacket.setDataLayer(1);
         waterPacket.setBlockPosition(position);
-        if (BlockRegistries.WATERLOGGED.get().get(state.javaId())) {
+        if ((session.getBlockMappings().getStateInfo(state.javaId()) & BlockMappings.WATERLOGGED) != 0) {
             waterPacket.setDefinition(session.getBlockMappings().getBedrockWater());
         } else {
             waterPacket.setDefinition(session.getBlockMappings().getBedrockAir());
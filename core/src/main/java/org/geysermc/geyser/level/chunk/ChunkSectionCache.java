@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntImmutableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A content-addressed cache of translated chunk sections, shared by all sessions.
+ * <p>
+ * Players standing in the same area receive the exact same Java chunk section bytes, so the palette remap and
+ * coordinate conversion only need to be done once per Bedrock protocol version. Cached block storages are never
+ * modified after insertion - their palettes are immutable, so anything that wants to change a block must
+ * {@link GeyserChunkSection#copy(int) copy} the section first.
+ * <p>
+ * Alongside the block storages, the cache keeps their serialized Bedrock bytes as a read-only buffer, so outgoing
+ * chunk packets can reference them instead of writing every word again.
+ * <p>
+ * Disabled by default; set the {@code Geyser.ChunkSectionCacheSize} system property to the maximum size of the cache
+ * in megabytes to enable it.
+ */
+public final class ChunkSectionCache {
+    private static final long MAX_SIZE_BYTES = Long.getLong("Geyser.ChunkSectionCacheSize", 0L) * 1024 * 1024;
+
+    private static final @Nullable Cache<SectionKey, CachedSection> CACHE = MAX_SIZE_BYTES <= 0 ? null : CacheBuilder.newBuilder()
+            .maximumWeight(MAX_SIZE_BYTES)
+            .weigher(ChunkSectionCache::weigh)
+            .build();
+
+    public static boolean isEnabled() {
+        return CACHE != null;
+    }
+
+    /**
+     * @param protocolVersion the Bedrock protocol version of the session, as block runtime IDs differ between versions
+     * @param javaData the buffer holding the Java chunk section
+     * @param offset where the section starts in the buffer
+     * @param length how many bytes the section occupies
+     * @param subChunkIndex the Bedrock sub chunk index of the section
+     * @return the cached Bedrock section, or null if it has not been translated yet.
+     */
+    public static @Nullable GeyserChunkSection get(int protocolVersion, byte[] javaData, int offset, int length, int subChunkIndex) {
+        if (CACHE == null) {
+            return null;
+        }
+        CachedSection cached = CACHE.getIfPresent(new SectionKey(protocolVersion, javaData, offset, length));
+        if (cached == null) {
+            return null;
+        }
+        return new GeyserChunkSection(cached.layers(), subChunkIndex, cached.serializedLayers());
+    }
+
+    /**
+     * Stores the translated block storages of a section. The storages passed in must not be modified afterwards.
+     *
+     * @return the section that should be used by the caller - its palettes are made immutable
+     */
+    public static GeyserChunkSection put(int protocolVersion, byte[] javaData, int offset, int length, BlockStorage[] layers, int subChunkIndex) {
+        if (CACHE == null) {
+            return new GeyserChunkSection(layers, subChunkIndex);
+        }
+
+        BlockStorage[] immutableLayers = new BlockStorage[layers.length];
+        for (int i = 0; i < layers.length; i++) {
+            BlockStorage layer = layers[i];
+            immutableLayers[i] = new BlockStorage(layer.getBitArray(), new IntImmutableList(layer.getPalette()));
+        }
+
+        int size = 0;
+        for (BlockStorage layer : immutableLayers) {
+            size += layer.estimateNetworkSize();
+        }
+        ByteBuf serialized = Unpooled.buffer(size);
+        for (BlockStorage layer : immutableLayers) {
+            layer.writeToNetwork(serialized);
+        }
+        // Heap buffer that is shared by every packet referencing it - leave freeing it to the garbage collector
+        ByteBuf serializedLayers = Unpooled.unreleasableBuffer(serialized.asReadOnly());
+
+        // Copy the Java data so the key does not hold on to the whole packet
+        byte[] keyData = Arrays.copyOfRange(javaData, offset, offset + length);
+        CACHE.put(new SectionKey(protocolVersion, keyData, 0, length), new CachedSection(immutableLayers, serializedLayers));
+        return new GeyserChunkSection(immutableLayers, subChunkIndex, serializedLayers);
+    }
+
+    public static void invalidateAll() {
+        if (CACHE != null) {
+            CACHE.invalidateAll();
+        }
+    }
+
+    private static int weigh(SectionKey key, CachedSection section) {
+        int weight = key.length + section.serializedLayers().capacity();
+        for (BlockStorage layer : section.layers()) {
+            weight += layer.getBitArray().getWords().length * 4 + layer.getPalette().size() * 4;
+        }
+        return weight;
+    }
+
+    private record CachedSection(BlockStorage[] layers, ByteBuf serializedLayers) {
+    }
+
+    private static final class SectionKey {
+        private final int protocolVersion;
+        private final byte[] data;
+        private final int offset;
+        private final int length;
+        private final int hash;
+
+        SectionKey(int protocolVersion, byte[] data, int offset, int length) {
+            this.protocolVersion = protocolVersion;
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+
+            int hash = 31 * protocolVersion + length;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + data[i];
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SectionKey other)) {
+                return false;
+            }
+            return hash == other.hash && protocolVersion == other.protocolVersion && length == other.length
+                    && Arrays.equals(data, offset, offset + length, other.data, other.offset, other.offset + other.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private ChunkSectionCache() {
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.GlobalPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.SingletonPalette;
+
+/**
+ * A Java chunk section stored with as little overhead as possible: an exactly-sized palette and one packed long array,
+ * in the same YZX order and bit layout as Java Edition.
+ * <p>
+ * Sections that consist of a single block state (all air, all stone, ...) are interned and shared by every chunk cache.
+ * Interned sections are never modified - {@link #set(int, int, int, int)} returns a new section instead.
+ */
+public final class CompactChunkSection {
+    private static final int MIN_BITS = 4;
+    private static final Int2ObjectMap<CompactChunkSection> INTERNED = Int2ObjectMaps.synchronize(new Int2ObjectOpenHashMap<>());
+
+    private int[] palette;
+    private int paletteSize;
+    private int bitsPerEntry;
+    /**
+     * Null if this section is a single block state.
+     */
+    private long[] data;
+
+    private CompactChunkSection(int[] palette, int paletteSize, int bitsPerEntry, long[] data) {
+        this.palette = palette;
+        this.paletteSize = paletteSize;
+        this.bitsPerEntry = bitsPerEntry;
+        this.data = data;
+    }
+
+    public static CompactChunkSection singleton(int state) {
+        return INTERNED.computeIfAbsent(state, $ -> new CompactChunkSection(new int[] {state}, 1, 0, null));
+    }
+
+    public static CompactChunkSection from(DataPalette dataPalette) {
+        Palette javaPalette = dataPalette.getPalette();
+        if (javaPalette instanceof SingletonPalette) {
+            return singleton(javaPalette.idToState(0));
+        }
+
+        BitStorage storage = dataPalette.getStorage();
+        if (javaPalette instanceof GlobalPalette) {
+            // Too many states for a Java palette - build our own, which is at most 12 bits per block
+            CompactChunkSection section = singleton(storage.get(0));
+            for (int i = 1; i < BlockStorage.SIZE; i++) {
+                section = section.set(i, storage.get(i));
+            }
+            return section;
+        }
+
+        int[] palette = new int[javaPalette.size()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = javaPalette.idToState(i);
+        }
+        if (palette.length == 1) {
+            return singleton(palette[0]);
+        }
+        // The translated DataPalette is discarded once cached, so its storage can be taken over as-is
+        return new CompactChunkSection(palette, palette.length, storage.getBitsPerEntry(), storage.getData());
+    }
+
+    public int get(int x, int y, int z) {
+        return get(index(x, y, z));
+    }
+
+    public int get(int index) {
+        if (this.data == null) {
+            return this.palette[0];
+        }
+        int valuesPerLong = Long.SIZE / this.bitsPerEntry;
+        long word = this.data[index / valuesPerLong];
+        int paletteId = (int) ((word >>> ((index % valuesPerLong) * this.bitsPerEntry)) & ((1L << this.bitsPerEntry) - 1));
+        return this.palette[paletteId];
+    }
+
+    /**
+     * @return the section that now holds the block, which is a new section if this section is interned
+     */
+    public CompactChunkSection set(int x, int y, int z, int state) {
+        return set(index(x, y, z), state);
+    }
+
+    private CompactChunkSection set(int index, int state) {
+        if (this.data == null) {
+            if (this.palette[0] == state) {
+                return this;
+            }
+            int valuesPerLong = Long.SIZE / MIN_BITS;
+            CompactChunkSection section = new CompactChunkSection(new int[] {this.palette[0], 0}, 1, MIN_BITS,
+                new long[(BlockStorage.SIZE + valuesPerLong - 1) / valuesPerLong]);
+            return section.set(index, state);
+        }
+
+        int paletteId = paletteIdFor(state);
+        int valuesPerLong = Long.SIZE / this.bitsPerEntry;
+        int longIndex = index / valuesPerLong;
+        int shift = (index % valuesPerLong) * this.bitsPerEntry;
+        long mask = (1L << this.bitsPerEntry) - 1;
+        this.data[longIndex] = (this.data[longIndex] & ~(mask << shift)) | ((long) paletteId << shift);
+        return this;
+    }
+
+    private int paletteIdFor(int state) {
+        for (int i = 0; i < this.paletteSize; i++) {
+            if (this.palette[i] == state) {
+                return i;
+            }
+        }
+
+        if (this.paletteSize == this.palette.length) {
+            int[] newPalette = new int[this.paletteSize + 4];
+            System.arraycopy(this.palette, 0, newPalette, 0, this.paletteSize);
+            this.palette = newPalette;
+        }
+        int paletteId = this.paletteSize++;
+        this.palette[paletteId] = state;
+
+        if (paletteId > (1 << this.bitsPerEntry) - 1) {
+            resize(this.bitsPerEntry + 1);
+        }
+        return paletteId;
+    }
+
+    private void resize(int newBits) {
+        int[] unpacked = new int[BlockStorage.SIZE];
+        int valuesPerLong = Long.SIZE / this.bitsPerEntry;
+        long mask = (1L << this.bitsPerEntry) - 1;
+        for (int i = 0; i < BlockStorage.SIZE; i++) {
+            unpacked[i] = (int) ((this.data[i / valuesPerLong] >>> ((i % valuesPerLong) * this.bitsPerEntry)) & mask);
+        }
+
+        int newValuesPerLong = Long.SIZE / newBits;
+        long[] newData = new long[(BlockStorage.SIZE + newValuesPerLong - 1) / newValuesPerLong];
+        for (int i = 0; i < BlockStorage.SIZE; i++) {
+            newData[i / newValuesPerLong] |= (long) unpacked[i] << ((i % newValuesPerLong) * newBits);
+        }
+        this.bitsPerEntry = newBits;
+        this.data = newData;
+    }
+
+    public boolean isInterned() {
+        return this.data == null;
+    }
+
+    /**
+     * @return an estimate of the heap this section uses in bytes, or 0 if the section is interned
+     */
+    public int memoryUsage() {
+        if (this.data == null) {
+            return 0;
+        }
+        // Object headers and fields, plus both arrays
+        return 32 + 16 + this.palette.length * Integer.BYTES + 16 + this.data.length * Long.BYTES;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+}
@@ -25,14 +25,116 @@
 
 package org.geysermc.geyser.level.chunk;
 
+import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 
 /**
  * Acts as a lightweight chunk class that doesn't store biomes, heightmaps or block entities.
+ * <p>
+ * Sections are either kept as the MCProtocolLib {@link DataPalette}s they were read as, or - in compact mode - as
+ * {@link CompactChunkSection}s.
  */
-public record GeyserChunk(DataPalette[] sections) {
+public final class GeyserChunk {
+    private final DataPalette[] sections;
+    private final CompactChunkSection[] compactSections;
+
+    private GeyserChunk(DataPalette[] sections, CompactChunkSection[] compactSections) {
+        this.sections = sections;
+        this.compactSections = compactSections;
+    }
 
     public static GeyserChunk from(DataPalette[] sections) {
-        return new GeyserChunk(sections);
+        return new GeyserChunk(sections, null);
+    }
+
+    public static GeyserChunk compact(DataPalette[] sections) {
+        CompactChunkSection[] compactSections = new CompactChunkSection[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i] != null) {
+                compactSections[i] = CompactChunkSection.from(sections[i]);
+            }
+        }
+        return new GeyserChunk(null, compactSections);
+    }
+
+    public int sectionCount() {
+        return this.sections != null ? this.sections.length : this.compactSections.length;
+    }
+
+    public boolean isSectionEmpty(int sectionIndex) {
+        return this.sections != null ? this.sections[sectionIndex] == null : this.compactSections[sectionIndex] == null;
+    }
+
+    public int get(int sectionIndex, int x, int y, int z) {
+        if (this.sections != null) {
+            DataPalette section = this.sections[sectionIndex];
+            return section == null ? Block.JAVA_AIR_ID : section.get(x, y, z);
+        }
+        CompactChunkSection section = this.compactSections[sectionIndex];
+        return section == null ? Block.JAVA_AIR_ID : section.get(x, y, z);
+    }
+
+    /**
+     * Sets a block, creating the section if it is empty.
+     *
+     * @return how much the memory usage of this chunk changed, in bytes
+     */
+    public int set(int sectionIndex, int x, int y, int z, int block) {
+        if (this.sections != null) {
+            DataPalette section = this.sections[sectionIndex];
+            int previousUsage = 0;
+            if (section == null) {
+                section = DataPalette.createForBlockState(Block.JAVA_AIR_ID, BlockRegistries.BLOCK_STATES.get().size());
+                this.sections[sectionIndex] = section;
+            } else {
+                previousUsage = memoryUsage(section);
+            }
+            section.set(x, y, z, block);
+            return memoryUsage(section) - previousUsage;
+        }
+
+        CompactChunkSection section = this.compactSections[sectionIndex];
+        if (section == null) {
+            section = CompactChunkSection.singleton(Block.JAVA_AIR_ID);
+        }
+        int previousUsage = section.memoryUsage();
+        section = section.set(x, y, z, block);
+        this.compactSections[sectionIndex] = section;
+        return section.memoryUsage() - previousUsage;
+    }
+
+    /**
+     * @return an estimate of the heap this chunk uses in bytes
+     */
+    public long memoryUsage() {
+        long usage = 16;
+        if (this.sections != null) {
+            usage += 16 + this.sections.length * 8L;
+            for (DataPalette section : this.sections) {
+                if (section != null) {
+                    usage += memoryUsage(section);
+                }
+            }
+        } else {
+            usage += 16 + this.compactSections.length * 8L;
+            for (CompactChunkSection section : this.compactSections) {
+                if (section != null) {
+                    usage += section.memoryUsage();
+                }
+            }
+        }
+        return usage;
+    }
+
+    private static int memoryUsage(DataPalette section) {
+        // DataPalette, its palette and its storage, plus the palette entries
+        int usage = 3 * 32 + section.getPalette().size() * 16;
+        BitStorage storage = section.getStorage();
+        if (storage != null) {
+            usage += 16 + storage.getData().length * Long.BYTES;
+        }
+        return usage;
     }
 }
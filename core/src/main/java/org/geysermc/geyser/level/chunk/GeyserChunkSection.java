@@ -26,6 +26,8 @@
 package org.geysermc.geyser.level.chunk;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.common.util.Preconditions;
 
 public class GeyserChunkSection {
@@ -36,14 +38,23 @@ public class GeyserChunkSection {
     private final BlockStorage[] storage;
     // Counts up from 00 for y >= 0 and down from FF for y < 0
     private final int subChunkIndex;
+    /**
+     * The network representation of {@link #storage}, if this section is shared through the {@link ChunkSectionCache}.
+     */
+    private final @Nullable ByteBuf serializedStorage;
 
     public GeyserChunkSection(int airBlockId, int subChunkIndex) {
         this(new BlockStorage[]{new BlockStorage(airBlockId), new BlockStorage(airBlockId)}, subChunkIndex);
     }
 
     public GeyserChunkSection(BlockStorage[] storage, int subChunkIndex) {
+        this(storage, subChunkIndex, null);
+    }
+
+    GeyserChunkSection(BlockStorage[] storage, int subChunkIndex, @Nullable ByteBuf serializedStorage) {
         this.storage = storage;
         this.subChunkIndex = subChunkIndex;
+        this.serializedStorage = serializedStorage;
     }
 
     public int getFullBlock(int x, int y, int z, int layer) {
@@ -59,13 +70,36 @@ public class GeyserChunkSection {
     }
 
     public void writeToNetwork(ByteBuf buffer) {
+        writeHeaderToNetwork(buffer);
+        for (BlockStorage blockStorage : this.storage) {
+            blockStorage.writeToNetwork(buffer);
+        }
+    }
+
+    /**
+     * Writes this section without copying pre-serialized block storages.
+     *
+     * @param buffer the buffer that the section header - and if this section isn't cached, its storages - are written to
+     * @param composite the buffer holding the packet; if the pre-serialized storages are used, {@code buffer} is added to it first
+     * @return true if {@code buffer} was added to {@code composite} and a new buffer needs to be used for further writes
+     */
+    public boolean writeToNetwork(ByteBuf buffer, CompositeByteBuf composite) {
+        if (this.serializedStorage == null) {
+            writeToNetwork(buffer);
+            return false;
+        }
+
+        writeHeaderToNetwork(buffer);
+        composite.addComponent(true, buffer);
+        composite.addComponent(true, this.serializedStorage.retainedDuplicate());
+        return true;
+    }
+
+    private void writeHeaderToNetwork(ByteBuf buffer) {
         buffer.writeByte(CHUNK_SECTION_VERSION);
         buffer.writeByte(this.storage.length);
         // Required for chunk version 9+
         buffer.writeByte(this.subChunkIndex);
-        for (BlockStorage blockStorage : this.storage) {
-            blockStorage.writeToNetwork(buffer);
-        }
     }
 
     public int estimateNetworkSize() {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+
+import java.util.BitSet;
+
+/**
+ * Converts whole chunk sections between the Java and Bedrock block orderings by working on the packed words directly.
+ * <p>
+ * Java stores sections in YZX order, while Bedrock wants XZY order. Instead of reading and writing every entry through
+ * {@link BitArray#get(int)}/{@link BitArray#set(int, int)} - which bounds-checks and recalculates the word for each block -
+ * the Java longs are unpacked in one sequential pass, and the Bedrock words are then assembled one full word at a time
+ * while walking the section column by column.
+ */
+public final class BitArrayTransposer {
+    private static final ThreadLocal<int[]> UNPACKED = ThreadLocal.withInitial(() -> new int[BlockStorage.SIZE]);
+
+    /**
+     * Unpacks the data of a Java bit storage, as used by Java Edition since 1.16 where entries do not span multiple longs.
+     *
+     * @param data the packed longs of the section
+     * @param bitsPerEntry the amount of bits every entry uses
+     * @return the entries in YZX order. The array is reused by the calling thread and is only valid until the next call.
+     */
+    public static int[] unpackJava(long[] data, int bitsPerEntry) {
+        int[] unpacked = UNPACKED.get();
+        int valuesPerLong = Long.SIZE / bitsPerEntry;
+        long mask = (1L << bitsPerEntry) - 1;
+
+        int index = 0;
+        for (long word : data) {
+            int count = Math.min(valuesPerLong, BlockStorage.SIZE - index);
+            for (int i = 0; i < count; i++) {
+                unpacked[index++] = (int) (word & mask);
+                word >>>= bitsPerEntry;
+            }
+        }
+        return unpacked;
+    }
+
+    /**
+     * Writes a full section of entries into a Bedrock bit array, converting from YZX to XZY order.
+     *
+     * @param yzx the entries in YZX order, each of which must fit into the bit array's version
+     * @param target the bit array to overwrite
+     */
+    public static void packXZY(int[] yzx, BitArray target) {
+        packXZY(yzx, target, null);
+    }
+
+    /**
+     * Writes a full section into a Bedrock bit array, converting from YZX to XZY order.
+     *
+     * @param yzx the entries in YZX order
+     * @param target the bit array to overwrite
+     * @param mask if not null, a 1 is written for every entry contained in this set, and a 0 otherwise
+     */
+    public static void packXZY(int[] yzx, BitArray target, @Nullable BitSet mask) {
+        BitArrayVersion version = target.getVersion();
+        int bits = version.bits;
+        int entriesPerWord = version.entriesPerWord;
+        int[] words = target.getWords();
+
+        int word = 0;
+        int shift = 0;
+        int entriesInWord = 0;
+        int wordIndex = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int column = (z << 4) | x;
+                for (int y = 0; y < 16; y++) {
+                    int value = yzx[(y << 8) | column];
+                    if (mask != null) {
+                        value = mask.get(value) ? 1 : 0;
+                    }
+                    word |= value << shift;
+                    shift += bits;
+                    if (++entriesInWord == entriesPerWord) {
+                        words[wordIndex++] = word;
+                        word = 0;
+                        shift = 0;
+                        entriesInWord = 0;
+                    }
+                }
+            }
+        }
+        if (entriesInWord != 0) {
+            words[wordIndex] = word;
+        }
+    }
+
+    private BitArrayTransposer() {
+    }
+}
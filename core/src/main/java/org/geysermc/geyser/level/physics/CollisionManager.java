@@ -51,10 +51,7 @@ import org.geysermc.geyser.translator.collision.OtherCollision;
 import org.geysermc.geyser.translator.collision.ScaffoldingCollision;
 import org.geysermc.geyser.translator.collision.SolidCollision;
 import org.geysermc.geyser.util.BlockUtils;
-
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
+import org.geysermc.geyser.util.MathUtils;
 
 public class CollisionManager {
     public static final BlockCollision SOLID_COLLISION = new SolidCollision(null);
@@ -82,12 +79,6 @@ public class CollisionManager {
      * This check doesn't allow players right up against the block, so they must be pushed slightly away.
      */
     public static final double COLLISION_TOLERANCE = 0.00001;
-    /**
-     * Trims Y coordinates when jumping to prevent rounding issues being sent to the server.
-     * The locale used is necessary so other regions don't use <code>,</code> as their decimal separator.
-     */
-    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("#.#####", new DecimalFormatSymbols(Locale.ENGLISH));
-
     private static final double PLAYER_STEP_UP = 0.6;
 
     /**
@@ -164,24 +155,25 @@ public class CollisionManager {
         if (pistonCache.isPlayerAttachedToHoney()) {
             return null;
         }
-        // We need to parse the float as a string since casting a float to a double causes us to
+        // We need to convert the float through its decimal representation since casting a float to a double causes us to
         // lose precision and thus, causes players to get stuck when walking near walls
-        double javaY = Double.parseDouble(Float.toString(bedrockPosition.getY() - EntityDefinitions.PLAYER.offset()));
-
-        Vector3d position = Vector3d.from(Double.parseDouble(Float.toString(bedrockPosition.getX())), javaY,
-                Double.parseDouble(Float.toString(bedrockPosition.getZ())));
+        double javaX = MathUtils.floatToShortestDouble(bedrockPosition.getX());
+        double javaY = MathUtils.floatToShortestDouble(bedrockPosition.getY() - EntityDefinitions.PLAYER.offset());
+        double javaZ = MathUtils.floatToShortestDouble(bedrockPosition.getZ());
 
         // Don't correct position if controlling a vehicle
         if (session.getPlayerEntity().getVehicle() instanceof ClientVehicle clientVehicle && clientVehicle.isClientControlled()) {
-            playerBoundingBox.setMiddleX(position.getX());
-            playerBoundingBox.setMiddleY(position.getY() + playerBoundingBox.getSizeY() / 2);
-            playerBoundingBox.setMiddleZ(position.getZ());
+            playerBoundingBox.setMiddleX(javaX);
+            playerBoundingBox.setMiddleY(javaY + playerBoundingBox.getSizeY() / 2);
+            playerBoundingBox.setMiddleZ(javaZ);
 
             return new CollisionResult(playerBoundingBox.getBottomCenter(), TriState.NOT_SET);
         }
 
-        Vector3d startingPos = playerBoundingBox.getBottomCenter();
-        Vector3d movement = position.sub(startingPos);
+        // Same as the bounding box's bottom center, without creating a vector for it
+        Vector3d movement = Vector3d.from(javaX - playerBoundingBox.getMiddleX(),
+                javaY - (playerBoundingBox.getMiddleY() - playerBoundingBox.getSizeY() / 2),
+                javaZ - playerBoundingBox.getMiddleZ());
         Vector3d adjustedMovement = correctPlayerMovement(movement, false, teleported);
         playerBoundingBox.translate(adjustedMovement.getX(), adjustedMovement.getY(), adjustedMovement.getZ());
         playerBoundingBox.translate(pistonCache.getPlayerMotion().getX(), pistonCache.getPlayerMotion().getY(), pistonCache.getPlayerMotion().getZ());
@@ -208,14 +200,13 @@ public class CollisionManager {
             }
         }
 
-        position = playerBoundingBox.getBottomCenter();
-
+        double positionY = playerBoundingBox.getMiddleY() - playerBoundingBox.getSizeY() / 2;
         if (!newOnGround) {
             // Trim the position to prevent rounding errors that make Java think we are clipping into a block
-            position = Vector3d.from(position.getX(), Double.parseDouble(DECIMAL_FORMAT.format(position.getY())), position.getZ());
+            positionY = MathUtils.roundHalfEven(positionY, 5);
         }
 
-        return new CollisionResult(position, TriState.byBoolean(onGround));
+        return new CollisionResult(Vector3d.from(playerBoundingBox.getMiddleX(), positionY, playerBoundingBox.getMiddleZ()), TriState.byBoolean(onGround));
     }
 
     public void recalculatePosition() {
@@ -365,21 +356,23 @@ public class CollisionManager {
         BoundingBox movementBoundingBox = boundingBox.clone();
         movementBoundingBox.extend(movement);
         BlockPositionIterator iter = collidableBlocksIterator(movementBoundingBox);
+        // Read the whole area once; the box moves a little between axes but stays within the expanded iterator
+        int[] blocks = checkWorld ? session.getGeyser().getWorldManager().getBlocksAt(session, iter) : null;
         if (Math.abs(movementY) > CollisionManager.COLLISION_TOLERANCE) {
-            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, checkWorld, walkOnLava);
+            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, blocks, walkOnLava);
             boundingBox.translate(0, movementY, 0);
         }
         boolean checkZFirst = Math.abs(movementZ) > Math.abs(movementX);
         if (checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld, walkOnLava);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks, walkOnLava);
             boundingBox.translate(0, 0, movementZ);
         }
         if (Math.abs(movementX) > CollisionManager.COLLISION_TOLERANCE) {
-            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, checkWorld, walkOnLava);
+            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, blocks, walkOnLava);
             boundingBox.translate(movementX, 0, 0);
         }
         if (!checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld, walkOnLava);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks, walkOnLava);
             boundingBox.translate(0, 0, movementZ);
         }
 
@@ -390,13 +383,16 @@ public class CollisionManager {
         return Vector3d.from(movementX, movementY, movementZ);
     }
 
-    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, boolean checkWorld, boolean walkOnLava) {
+    /**
+     * @param blocks the blocks covered by the iterator, or null if the world should not be checked
+     */
+    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, int @Nullable [] blocks, boolean walkOnLava) {
         for (iter.reset(); iter.hasNext(); iter.next()) {
             int x = iter.getX();
             int y = iter.getY();
             int z = iter.getZ();
-            if (checkWorld) {
-                int blockId = session.getGeyser().getWorldManager().getBlockAt(session, x, y, z);
+            if (blocks != null) {
+                int blockId = blocks[iter.getIteration()];
 
                 BlockCollision blockCollision = walkOnLava ? getCollisionLavaWalking(blockId, y, boundingBox) : BlockUtils.getCollision(blockId);
                 if (blockCollision != null && !(blockCollision instanceof ScaffoldingCollision)) {
@@ -84,6 +84,8 @@ import org.cloudburstmc.protocol.bedrock.packet.SimpleEventPacket;
 import org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket;
 import org.cloudburstmc.protocol.bedrock.packet.SubClientLoginPacket;
 import org.cloudburstmc.protocol.common.util.VarInts;
+import org.geysermc.geyser.session.cache.BlobCache;
+import org.geysermc.geyser.session.cache.SubChunkCache;
 
 /**
  * Processes the Bedrock codec to remove or modify unused or unsafe packets and fields.
@@ -263,9 +265,7 @@ class CodecProcessor {
             .updateSerializer(ClientCheatAbilityPacket.class, ILLEGAL_SERIALIZER)
             .updateSerializer(CraftingEventPacket.class, ILLEGAL_SERIALIZER)
             // Illegal unusued serverbound packets that relate to unused features
-            .updateSerializer(ClientCacheBlobStatusPacket.class, ILLEGAL_SERIALIZER)
             .updateSerializer(SubClientLoginPacket.class, ILLEGAL_SERIALIZER)
-            .updateSerializer(SubChunkRequestPacket.class, ILLEGAL_SERIALIZER)
             .updateSerializer(GameTestRequestPacket.class, ILLEGAL_SERIALIZER)
             // Ignored serverbound packets
             .updateSerializer(ClientToServerHandshakePacket.class, IGNORED_SERIALIZER)
@@ -294,7 +294,6 @@ class CodecProcessor {
             .updateSerializer(EditorNetworkPacket.class, ILLEGAL_SERIALIZER)
             .updateSerializer(ScriptMessagePacket.class, ILLEGAL_SERIALIZER)
             // Ignored bidirectional packets
-            .updateSerializer(ClientCacheStatusPacket.class, IGNORED_SERIALIZER)
             .updateSerializer(SimpleEventPacket.class, IGNORED_SERIALIZER)
             .updateSerializer(MultiplayerSettingsPacket.class, IGNORED_SERIALIZER);
 
@@ -305,6 +304,18 @@ class CodecProcessor {
                     .updateSerializer(PlayerInputPacket.class, ILLEGAL_SERIALIZER);
             }
 
+            // Only parse the blob cache packets if the client blob cache has been opted into
+            if (!BlobCache.ENABLED) {
+                codecBuilder
+                    .updateSerializer(ClientCacheBlobStatusPacket.class, ILLEGAL_SERIALIZER)
+                    .updateSerializer(ClientCacheStatusPacket.class, IGNORED_SERIALIZER);
+            }
+
+            // Sub-chunks are only requested by the client if chunks are sent in sub-chunk request mode
+            if (!SubChunkCache.ENABLED) {
+                codecBuilder.updateSerializer(SubChunkRequestPacket.class, ILLEGAL_SERIALIZER);
+            }
+
             if (!Boolean.getBoolean("Geyser.ReceiptPackets")) {
                 codecBuilder.updateSerializer(RefreshEntitlementsPacket.class, IGNORED_SERIALIZER);
                 codecBuilder.updateSerializer(PurchaseReceiptPacket.class, IGNORED_SERIALIZER);
@@ -44,6 +44,8 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
     // There is a constructor that doesn't require inputting threads, but older Netty versions don't have it
     @Getter
     private final DefaultEventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(0, new DefaultThreadFactory("Geyser player thread"));
+    @Getter
+    private final PlayerEventLoopBalancer loopBalancer = new PlayerEventLoopBalancer(this.eventLoopGroup);
 
     public GeyserServerInitializer(GeyserImpl geyser) {
         this.geyser = geyser;
@@ -60,7 +62,7 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
             }
 
             bedrockServerSession.setLogging(true);
-            GeyserSession session = new GeyserSession(this.geyser, bedrockServerSession, this.eventLoopGroup.next());
+            GeyserSession session = new GeyserSession(this.geyser, bedrockServerSession, this.loopBalancer.next());
 
             if (!bedrockServerSession.isSubClient()) {
                 Channel channel = bedrockServerSession.getPeer().getChannel();
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Places new sessions on the least loaded loop of the player event loop group, instead of handing them out round-robin.
+ * <p>
+ * Every session reports the time its loop spends translating its packets and ticking it. That time, sampled into a
+ * utilization figure once per second, is combined with the number of queued tasks and the number of sessions on the
+ * loop to pick a loop for each new session. Sessions stay on the loop they were placed on for their whole lifetime,
+ * since their downstream connection is registered on it.
+ */
+public final class PlayerEventLoopBalancer {
+    private static final long SAMPLE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * How much a queued task weighs compared to a fully busy loop
+     */
+    private static final double PENDING_TASK_WEIGHT = 0.001;
+    /**
+     * How much a session weighs compared to a fully busy loop; mostly spreads sessions that have just joined and have
+     * not produced any load yet
+     */
+    private static final double SESSION_WEIGHT = 0.01;
+
+    private final List<LoopLoad> loops;
+
+    public PlayerEventLoopBalancer(EventLoopGroup group) {
+        List<LoopLoad> loops = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            loops.add(new LoopLoad((EventLoop) executor));
+        }
+        this.loops = List.copyOf(loops);
+    }
+
+    /**
+     * Picks the least loaded loop for a new session. The session must call {@link LoopLoad#release()} once it
+     * disconnects.
+     */
+    public LoopLoad next() {
+        long now = System.nanoTime();
+        LoopLoad best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (LoopLoad load : this.loops) {
+            double score = load.score(now);
+            if (score < bestScore) {
+                best = load;
+                bestScore = score;
+            }
+        }
+        //noinspection DataFlowIssue - there is always at least one loop
+        best.sessions.incrementAndGet();
+        return best;
+    }
+
+    /**
+     * @return the current load of every loop, for dumps
+     */
+    public List<Snapshot> snapshot() {
+        long now = System.nanoTime();
+        List<Snapshot> snapshots = new ArrayList<>(this.loops.size());
+        for (LoopLoad load : this.loops) {
+            load.sample(now);
+            snapshots.add(new Snapshot(load.sessions.get(), load.utilization, load.pendingTasks()));
+        }
+        return snapshots;
+    }
+
+    public record Snapshot(int sessions, double utilization, int pendingTasks) {
+    }
+
+    /**
+     * The load of one loop of the group.
+     */
+    public static final class LoopLoad {
+        private final EventLoop eventLoop;
+        private final AtomicInteger sessions = new AtomicInteger();
+        private final LongAdder busyNanos = new LongAdder();
+
+        private long lastSampledAt = System.nanoTime();
+        private long lastBusyNanos;
+        /**
+         * Smoothed share of time the loop spent on session work, between 0 and 1
+         */
+        private volatile double utilization;
+
+        private LoopLoad(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        public EventLoop eventLoop() {
+            return this.eventLoop;
+        }
+
+        /**
+         * Adds time the loop spent on work of one of its sessions.
+         */
+        public void addBusyTime(long nanos) {
+            this.busyNanos.add(nanos);
+        }
+
+        /**
+         * Called once a session on this loop disconnects.
+         */
+        public void release() {
+            this.sessions.decrementAndGet();
+        }
+
+        private synchronized void sample(long now) {
+            long elapsed = now - this.lastSampledAt;
+            if (elapsed < SAMPLE_INTERVAL) {
+                return;
+            }
+            long busy = this.busyNanos.sum();
+            double windowUtilization = Math.min(1, (double) (busy - this.lastBusyNanos) / elapsed);
+            this.utilization = (this.utilization + windowUtilization) / 2;
+            this.lastSampledAt = now;
+            this.lastBusyNanos = busy;
+        }
+
+        private int pendingTasks() {
+            return this.eventLoop instanceof SingleThreadEventExecutor executor ? executor.pendingTasks() : 0;
+        }
+
+        private double score(long now) {
+            sample(now);
+            return this.utilization + pendingTasks() * PENDING_TASK_WEIGHT + this.sessions.get() * SESSION_WEIGHT;
+        }
+    }
+}
@@ -64,6 +64,7 @@ import org.geysermc.geyser.api.pack.option.ResourcePackOption;
 import org.geysermc.geyser.event.type.SessionLoadResourcePacksEventImpl;
 import org.geysermc.geyser.pack.GeyserResourcePack;
 import org.geysermc.geyser.pack.ResourcePackHolder;
+import org.geysermc.geyser.pack.path.GeyserPathPackCodec;
 import org.geysermc.geyser.pack.url.GeyserUrlPackCodec;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
@@ -414,17 +415,27 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
 
         int offset = packet.getChunkIndex() * GeyserResourcePack.CHUNK_SIZE;
         long remainingSize = codec.size() - offset;
-        byte[] packData = new byte[(int) MathUtils.constrain(remainingSize, 0, GeyserResourcePack.CHUNK_SIZE)];
+        if (codec instanceof GeyserPathPackCodec pathPackCodec) {
+            try {
+                data.setData(pathPackCodec.chunk(packet.getChunkIndex(), GeyserResourcePack.CHUNK_SIZE));
+            } catch (IOException e) {
+                session.disconnect("disconnectionScreen.resourcePack");
+                e.printStackTrace();
+                data.setData(Unpooled.EMPTY_BUFFER);
+            }
+        } else {
+            byte[] packData = new byte[(int) MathUtils.constrain(remainingSize, 0, GeyserResourcePack.CHUNK_SIZE)];
 
-        try (SeekableByteChannel channel = codec.serialize()) {
-            channel.position(offset);
-            channel.read(ByteBuffer.wrap(packData, 0, packData.length));
-        } catch (IOException e) {
-            session.disconnect("disconnectionScreen.resourcePack");
-            e.printStackTrace();
-        }
+            try (SeekableByteChannel channel = codec.serialize()) {
+                channel.position(offset);
+                channel.read(ByteBuffer.wrap(packData, 0, packData.length));
+            } catch (IOException e) {
+                session.disconnect("disconnectionScreen.resourcePack");
+                e.printStackTrace();
+            }
 
-        data.setData(Unpooled.wrappedBuffer(packData));
+            data.setData(Unpooled.wrappedBuffer(packData));
+        }
 
         if (isConsole()) {
             // Also flushes packets
@@ -25,9 +25,12 @@
 
 package org.geysermc.geyser.network.netty;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPipeline;
 import lombok.Getter;
 import org.geysermc.geyser.GeyserBootstrap;
+import org.geysermc.geyser.GeyserImpl;
 
 import java.net.SocketAddress;
 
@@ -36,6 +39,12 @@ import java.net.SocketAddress;
  * by creating a local channel.
  */
 public abstract class GeyserInjector {
+    /**
+     * Whether Java packets should be sent over the local channel without a length prefix, where the injector supports it.
+     * A local channel passes every written buffer to the other end as its own message, so framing is redundant there.
+     */
+    private static final boolean FRAMELESS_LOCAL_CHANNEL = Boolean.getBoolean("Geyser.FramelessLocalChannel");
+
     /**
      * The local channel we can use to inject ourselves into the server without creating a TCP connection.
      */
@@ -63,6 +72,11 @@ public abstract class GeyserInjector {
         try {
             initializeLocalChannel0(bootstrap);
             bootstrap.getGeyserLogger().debug("Local injection succeeded!");
+
+            if (FRAMELESS_LOCAL_CHANNEL && supportsFramelessTransport(bootstrap)) {
+                LocalSession.setFramelessTransport(true);
+                bootstrap.getGeyserLogger().debug("Sending Java packets over the local channel without framing");
+            }
         } catch (Exception e) {
             e.printStackTrace();
             // If the injector partially worked, undo it
@@ -75,7 +89,44 @@ public abstract class GeyserInjector {
      */
     protected abstract void initializeLocalChannel0(GeyserBootstrap bootstrap) throws Exception;
 
+    /**
+     * Vanilla inserts the compression handlers relative to the framing handlers, so framing can only be removed if
+     * compression is guaranteed to never be enabled on the local channel.
+     *
+     * @return true if this injector calls {@link #removeFraming(Channel, String, String)} for every channel it initializes,
+     * and compression can't be turned on for these channels
+     */
+    protected boolean supportsFramelessTransport(GeyserBootstrap bootstrap) {
+        return false;
+    }
+
+    /**
+     * Removes the frame decoder and length prepender from the server end of a local channel, if the Geyser end of it
+     * does not frame its packets.
+     *
+     * @param channel the server end of the channel, after the server initialized it
+     * @param decoderName the name of the server's frame decoder
+     * @param prependerName the name of the server's length prepender
+     */
+    protected static void removeFraming(Channel channel, String decoderName, String prependerName) {
+        if (!(channel instanceof ChannelWrapper wrapper) || !(wrapper.source instanceof LocalChannelWrapper localChannel)
+            || !(localChannel.peerChannel() instanceof LocalChannelWithRemoteAddress peer) || !peer.frameless()) {
+            return;
+        }
+
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(decoderName) == null || pipeline.get(prependerName) == null) {
+            // The Geyser end can't be changed back at this point
+            GeyserImpl.getInstance().getLogger().error("Could not find the framing handlers of a local connection! Start without -DGeyser.FramelessLocalChannel.");
+            channel.close();
+            return;
+        }
+        pipeline.remove(decoderName);
+        pipeline.remove(prependerName);
+    }
+
     public void shutdown() {
+        LocalSession.setFramelessTransport(false);
         if (localChannel != null && localChannel.channel().isOpen()) {
             try {
                 localChannel.channel().close().sync();
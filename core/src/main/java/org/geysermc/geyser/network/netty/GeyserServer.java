@@ -51,6 +51,7 @@ import org.geysermc.geyser.event.type.GeyserBedrockPingEventImpl;
 import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.network.GeyserServerInitializer;
+import org.geysermc.geyser.network.PlayerEventLoopBalancer;
 import org.geysermc.geyser.network.netty.handler.RakConnectionRequestHandler;
 import org.geysermc.geyser.network.netty.handler.RakGeyserRateLimiter;
 import org.geysermc.geyser.network.netty.handler.RakPingHandler;
@@ -104,6 +105,11 @@ public final class GeyserServer {
     private EventLoopGroup childGroup;
     private final ServerBootstrap bootstrap;
     private EventLoopGroup playerGroup;
+    /**
+     * Places sessions on the loops of {@link #playerGroup}
+     */
+    @Getter
+    private PlayerEventLoopBalancer playerLoopBalancer;
 
     @Getter
     private final ExpiringMap<InetSocketAddress, InetSocketAddress> proxiedAddresses;
@@ -187,6 +193,7 @@ public final class GeyserServer {
             this.group = null;
             Future<?> futurePlayerGroup = this.playerGroup.shutdownGracefully(SHUTDOWN_QUIET_PERIOD_MS, SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
             this.playerGroup = null;
+            this.playerLoopBalancer = null;
 
             futureChildGroup.sync();
             futureGroup.sync();
@@ -219,6 +226,7 @@ public final class GeyserServer {
 
         GeyserServerInitializer serverInitializer = new GeyserServerInitializer(this.geyser);
         playerGroup = serverInitializer.getEventLoopGroup();
+        playerLoopBalancer = serverInitializer.getLoopBalancer();
         this.geyser.getLogger().debug("Setting MTU to " + this.geyser.config().advanced().bedrock().mtu());
 
         int rakPacketLimit = positivePropOrDefault("Geyser.RakPacketLimit", DEFAULT_PACKET_LIMIT);
@@ -35,6 +35,7 @@ import java.net.SocketAddress;
  */
 public class LocalChannelWithRemoteAddress extends LocalChannel {
     private SocketAddress spoofedAddress;
+    private volatile boolean frameless;
 
     public SocketAddress spoofedRemoteAddress() {
         return spoofedAddress;
@@ -43,4 +44,15 @@ public class LocalChannelWithRemoteAddress extends LocalChannel {
     public void spoofedRemoteAddress(SocketAddress socketAddress) {
         this.spoofedAddress = socketAddress;
     }
+
+    /**
+     * @return if this channel writes its packets without a length prefix, expecting the server to not use one either
+     */
+    public boolean frameless() {
+        return frameless;
+    }
+
+    public void frameless(boolean frameless) {
+        this.frameless = frameless;
+    }
 }
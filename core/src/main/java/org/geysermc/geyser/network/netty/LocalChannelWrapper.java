@@ -35,6 +35,7 @@ import java.util.Objects;
 public class LocalChannelWrapper extends LocalChannel {
 
     private final ChannelWrapper wrapper;
+    private final LocalChannel peerChannel;
 
     /**
      * {@link #newChannelPipeline()} is called during super, so this exists until the wrapper can be initialized.
@@ -43,6 +44,7 @@ public class LocalChannelWrapper extends LocalChannel {
 
     public LocalChannelWrapper(LocalServerChannel parent, LocalChannel peer) {
         super(parent, peer);
+        this.peerChannel = peer;
         this.wrapper = Objects.requireNonNullElseGet(tempWrapper, () -> new ChannelWrapper(this));
         wrapper.remoteAddress(new InetSocketAddress(0));
     }
@@ -51,6 +53,13 @@ public class LocalChannelWrapper extends LocalChannel {
         return wrapper;
     }
 
+    /**
+     * @return the client end of this channel
+     */
+    public LocalChannel peerChannel() {
+        return peerChannel;
+    }
+
     @Override
     protected DefaultChannelPipeline newChannelPipeline() {
         if (wrapper != null) {
@@ -54,6 +54,11 @@ import java.util.concurrent.TimeUnit;
 public final class LocalSession extends ClientNetworkSession {
     private static EventLoopGroup DEFAULT_EVENT_LOOP_GROUP;
     private static PreferredDirectByteBufAllocator PREFERRED_DIRECT_BYTE_BUF_ALLOCATOR = null;
+    /**
+     * Name of the handler that length-prefixes packets in MCProtocolLib's pipeline
+     */
+    private static final String SIZER_NAME = "sizer";
+    private static volatile boolean framelessTransport = false;
 
     private final SocketAddress spoofedRemoteAddress;
 
@@ -100,10 +105,24 @@ public final class LocalSession extends ClientNetworkSession {
                 NettyHelper.initializeHAProxySupport(LocalSession.this, channel);
 
                 super.initChannel(channel);
+
+                if (framelessTransport && channel.pipeline().get(SIZER_NAME) != null) {
+                    // Every packet is its own message on a local channel, so there is nothing to split
+                    channel.pipeline().remove(SIZER_NAME);
+                    ((LocalChannelWithRemoteAddress) channel).frameless(true);
+                }
             }
         };
     }
 
+    /**
+     * Makes new sessions skip the length prefix of every packet. Should only be called by injectors that remove the
+     * framing handlers on their end of every {@link LocalChannelWithRemoteAddress#frameless() frameless} channel.
+     */
+    public static void setFramelessTransport(boolean framelessTransport) {
+        LocalSession.framelessTransport = framelessTransport;
+    }
+
     /**
      * Should only be called when direct ByteBufs should be preferred. At this moment, this should only be called on BungeeCord.
      */
@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.pack.path;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
@@ -34,6 +36,8 @@ import org.geysermc.geyser.registry.loader.ResourcePackLoader;
 import org.geysermc.geyser.util.FileUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
@@ -47,6 +51,10 @@ public class GeyserPathPackCodec extends PathPackCodec {
 
     private byte[] sha256;
     private long size = -1;
+    /**
+     * The pack file mapped into memory, shared between all sessions downloading this pack.
+     */
+    private volatile MappedByteBuffer mappedPack;
 
     @Override
     public @NonNull Path path() {
@@ -83,6 +91,66 @@ public class GeyserPathPackCodec extends PathPackCodec {
         return FileChannel.open(this.path);
     }
 
+    /**
+     * Gets one chunk of this pack to send to a client. The chunk is a view of a memory mapping of the pack file that
+     * is shared between all sessions, so nothing is copied and the file is only opened once.
+     *
+     * @param chunkIndex the index of the chunk
+     * @param chunkSize the size of every chunk but the last one
+     * @return the chunk, which may be empty if the index is past the end of the pack
+     */
+    public @NonNull ByteBuf chunk(int chunkIndex, int chunkSize) throws IOException {
+        long offset = (long) chunkIndex * chunkSize;
+        long size = this.size();
+        if (offset < 0 || offset >= size) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+        int length = (int) Math.min(chunkSize, size - offset);
+
+        if (size > Integer.MAX_VALUE) {
+            // Can't be mapped into a single buffer
+            byte[] chunk = new byte[length];
+            try (SeekableByteChannel channel = this.serialize()) {
+                channel.position(offset);
+                channel.read(ByteBuffer.wrap(chunk));
+            }
+            return Unpooled.wrappedBuffer(chunk);
+        }
+
+        // Reading a mapping of a file that was truncated crashes the JVM, so make sure the file still is what we mapped
+        long fileSize = Files.size(this.path);
+        if (fileSize != size) {
+            this.mappedPack = null;
+            throw new IOException("The resource pack " + this.path + " changed on disk while it was being sent");
+        }
+
+        MappedByteBuffer mapped = this.mappedPack;
+        if (mapped == null || mapped.capacity() != fileSize) {
+            synchronized (this) {
+                mapped = this.mappedPack;
+                if (mapped == null || mapped.capacity() != fileSize) {
+                    try (FileChannel channel = FileChannel.open(this.path)) {
+                        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    }
+                    this.mappedPack = mapped;
+                }
+            }
+        }
+        if (offset + length > mapped.capacity()) {
+            this.mappedPack = null;
+            throw new IOException("The resource pack " + this.path + " changed on disk while it was being sent");
+        }
+        return Unpooled.wrappedBuffer(mapped.slice((int) offset, length));
+    }
+
+    /**
+     * Drops the memory mapping of the pack file, so it is mapped again the next time a chunk is requested.
+     * Called when packs are reloaded and on shutdown, so the file can be released once the mapping is collected.
+     */
+    public void invalidateMapping() {
+        this.mappedPack = null;
+    }
+
     @Override
     protected ResourcePack.@NonNull Builder createBuilder() {
         return ResourcePackLoader.readPack(this.path);
@@ -106,6 +174,7 @@ public class GeyserPathPackCodec extends PathPackCodec {
                 this.lastModified = lastModified;
                 this.sha256 = null;
                 this.size = -1;
+                this.mappedPack = null;
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
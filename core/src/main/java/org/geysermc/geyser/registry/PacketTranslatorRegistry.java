@@ -36,6 +36,7 @@ import org.geysermc.geyser.erosion.ErosionCancellationException;
 import org.geysermc.geyser.registry.loader.RegistryLoaders;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.translator.protocol.PacketMetrics;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 
 import java.util.Collections;
@@ -67,9 +68,10 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
         if (translator != null) {
             EventLoop eventLoop = session.getTickEventLoop();
             if (canRunImmediately || !translator.shouldExecuteInEventLoop() || eventLoop.inEventLoop()) {
-                translate0(session, translator, packet);
+                translate0(session, translator, packet, 0);
             } else {
-                eventLoop.execute(() -> translate0(session, translator, packet));
+                long queuedAt = PacketMetrics.startTime();
+                eventLoop.execute(() -> translate0(session, translator, packet, queuedAt));
             }
             return true;
         } else {
@@ -83,11 +85,12 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
         }
     }
 
-    private <P extends T> void translate0(GeyserSession session, PacketTranslator<P> translator, P packet) {
+    private <P extends T> void translate0(GeyserSession session, PacketTranslator<P> translator, P packet, long queuedAt) {
         if (session.isClosed()) {
             return;
         }
 
+        long startedAt = System.nanoTime();
         try {
             translator.translate(session, packet);
         } catch (ErosionCancellationException ex) {
@@ -96,6 +99,12 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
             GeyserImpl.getInstance().getLogger().error(GeyserLocale.getLocaleStringLog("geyser.network.translator.packet.failed", packet.getClass().getSimpleName()), ex);
             ex.printStackTrace();
         }
+
+        long finishedAt = System.nanoTime();
+        session.getTickLoopLoad().addBusyTime(finishedAt - startedAt);
+        if (PacketMetrics.isEnabled()) {
+            PacketMetrics.record(session.getPacketMetrics(), packet.getClass(), queuedAt, startedAt, finishedAt);
+        }
     }
 
     public static <T> PacketTranslatorRegistry<T> create() {
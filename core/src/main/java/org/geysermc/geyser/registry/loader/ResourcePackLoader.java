@@ -316,6 +316,11 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
 
     public static void clear() {
         if (Registries.RESOURCE_PACKS.loaded()) {
+            for (ResourcePackHolder holder : Registries.RESOURCE_PACKS.get().values()) {
+                if (holder.codec() instanceof GeyserPathPackCodec pathPackCodec) {
+                    pathPackCodec.invalidateMapping();
+                }
+            }
             Registries.RESOURCE_PACKS.get().clear();
         }
         CACHED_FAILED_PACKS.invalidateAll();
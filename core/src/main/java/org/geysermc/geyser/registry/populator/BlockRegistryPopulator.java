@@ -65,6 +65,7 @@ import org.geysermc.geyser.registry.populator.conversion.Conversion827_819;
 import org.geysermc.geyser.registry.populator.conversion.Conversion844_827;
 import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
+import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
 import org.geysermc.geyser.util.JsonUtils;
 
 import java.io.DataInputStream;
@@ -407,6 +408,23 @@ public final class BlockRegistryPopulator {
                 }
             });
 
+            BitSet waterlogged = BlockRegistries.WATERLOGGED.get();
+            long[] javaStateInfo = new long[javaToBedrockBlocks.length];
+            for (int i = 0; i < javaStateInfo.length; i++) {
+                GeyserBedrockBlock bedrockDefinition = javaToBedrockBlocks[i] == null ? airDefinition : javaToBedrockBlocks[i];
+                long info = bedrockDefinition.getRuntimeId() & 0xFFFFFFFFL;
+                if (waterlogged.get(i)) {
+                    info |= BlockMappings.WATERLOGGED;
+                }
+                if (BlockState.of(i).block() instanceof BedrockChunkWantsBlockEntityTag) {
+                    info |= BlockMappings.BEDROCK_BLOCK_ENTITY;
+                }
+                if (extendedCollisionBoxes.containsKey(i)) {
+                    info |= BlockMappings.EXTENDED_COLLISION;
+                }
+                javaStateInfo[i] = info;
+            }
+
             BlockRegistries.BLOCKS.register(palette.valueInt(), builder.bedrockRuntimeMap(bedrockRuntimeMap)
                     .javaToBedrockBlocks(javaToBedrockBlocks)
                     .javaToVanillaBedrockBlocks(javaToVanillaBedrockBlocks)
@@ -420,6 +438,7 @@ public final class BlockRegistryPopulator {
                     .blockProperties(customBlockProperties)
                     .customBlockStateDefinitions(customBlockStateDefinitions)
                     .extendedCollisionBoxes(extendedCollisionBoxes)
+                    .javaStateInfo(javaStateInfo)
                     .build());
         }
     }
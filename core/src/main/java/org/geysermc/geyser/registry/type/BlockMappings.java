@@ -46,6 +46,19 @@ import java.util.Set;
 @Builder
 @Value
 public class BlockMappings implements DefinitionRegistry<BlockDefinition> {
+    /**
+     * Set in {@link #getStateInfo(int)} if the state is waterlogged
+     */
+    public static final long WATERLOGGED = 1L << 32;
+    /**
+     * Set in {@link #getStateInfo(int)} if the state needs a block entity that only exists on Bedrock
+     */
+    public static final long BEDROCK_BLOCK_ENTITY = 1L << 33;
+    /**
+     * Set in {@link #getStateInfo(int)} if the state has an entry in {@link #getExtendedCollisionBoxes()}
+     */
+    public static final long EXTENDED_COLLISION = 1L << 34;
+
     GeyserBedrockBlock bedrockAir;
     BlockDefinition bedrockWater;
     BlockDefinition bedrockMovingBlock;
@@ -79,6 +92,28 @@ public class BlockMappings implements DefinitionRegistry<BlockDefinition> {
     Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions;
     Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes;
 
+    /**
+     * Java block ID -> Bedrock runtime ID in the lower 32 bits, and the flags above in the upper bits
+     */
+    long[] javaStateInfo;
+
+    /**
+     * Looks up everything chunk translation needs to know about a Java state at once.
+     *
+     * @return the Bedrock runtime ID in the lower 32 bits (see {@link #bedrockRuntimeId(long)}) and any of
+     * {@link #WATERLOGGED}, {@link #BEDROCK_BLOCK_ENTITY} and {@link #EXTENDED_COLLISION}
+     */
+    public long getStateInfo(int javaState) {
+        if (javaState < 0 || javaState >= this.javaStateInfo.length) {
+            return bedrockAir.getRuntimeId() & 0xFFFFFFFFL;
+        }
+        return this.javaStateInfo[javaState];
+    }
+
+    public static int bedrockRuntimeId(long stateInfo) {
+        return (int) stateInfo;
+    }
+
     public int getBedrockBlockId(int javaState) {
         return getBedrockBlock(javaState).getRuntimeId();
     }
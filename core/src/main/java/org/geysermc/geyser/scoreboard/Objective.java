@@ -26,10 +26,14 @@
 package org.geysermc.geyser.scoreboard;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.geysermc.geyser.scoreboard.display.slot.DisplaySlot;
@@ -39,11 +43,23 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.ScoreType;
 
 @Getter
 public final class Objective {
+    private static final Comparator<RankedScore> SIDEBAR_ORDER =
+        Comparator.comparingInt(RankedScore::score)
+            .reversed()
+            .thenComparing(ranked -> ranked.reference().name(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(ranked -> ranked.reference().name());
+
     private final Scoreboard scoreboard;
     private final List<DisplaySlot> activeSlots = new ArrayList<>();
 
     private final String objectiveName;
     private final Map<String, ScoreReference> scores = new ConcurrentHashMap<>();
+    /**
+     * The scores that aren't hidden, in the order the sidebar shows them. This is kept up to date as scores change,
+     * so the sidebar doesn't have to sort every score of the objective each time it renders.
+     */
+    @Getter(AccessLevel.NONE)
+    private final NavigableSet<RankedScore> sidebarOrder = new TreeSet<>(SIDEBAR_ORDER);
 
     private String displayName;
     private NumberFormat numberFormat;
@@ -60,6 +76,9 @@ public final class Objective {
         }
         var reference = new ScoreReference(scoreboard, id, score, displayName, numberFormat);
         scores.put(id, reference);
+        if (!reference.hidden()) {
+            sidebarOrder.add(new RankedScore(reference.score(), reference));
+        }
 
         for (var slot : activeSlots) {
             slot.addScore(reference);
@@ -69,7 +88,12 @@ public final class Objective {
     public void setScore(String id, int score, Component displayName, NumberFormat numberFormat) {
         ScoreReference stored = scores.get(id);
         if (stored != null) {
+            int oldScore = stored.score();
             stored.updateProperties(scoreboard, score, displayName, numberFormat);
+            if (oldScore != score && !stored.hidden()) {
+                sidebarOrder.remove(new RankedScore(oldScore, stored));
+                sidebarOrder.add(new RankedScore(score, stored));
+            }
             return;
         }
         registerScore(id, score, displayName, numberFormat);
@@ -78,6 +102,7 @@ public final class Objective {
     public void removeScore(String id) {
         ScoreReference stored = scores.remove(id);
         if (stored != null) {
+            sidebarOrder.remove(new RankedScore(stored.score(), stored));
             stored.markDeleted();
         }
     }
@@ -110,6 +135,22 @@ public final class Objective {
         }
     }
 
+    /**
+     * Returns the scores the sidebar should show, highest score first. Scores with the same value are sorted by name.
+     *
+     * @param limit the maximum amount of scores to return
+     */
+    public List<ScoreReference> sidebarScores(int limit) {
+        List<ScoreReference> result = new ArrayList<>(limit);
+        for (RankedScore ranked : sidebarOrder) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(ranked.reference());
+        }
+        return result;
+    }
+
     public boolean hasDisplaySlot() {
         return !activeSlots.isEmpty();
     }
@@ -121,4 +162,10 @@ public final class Objective {
     public void removeDisplaySlot(DisplaySlot slot) {
         activeSlots.remove(slot);
     }
+
+    /**
+     * A score with the value it was ranked by, as the value of the reference itself can change.
+     */
+    private record RankedScore(int score, ScoreReference reference) {
+    }
 }
@@ -47,7 +47,6 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.TeamColor;
 import org.jetbrains.annotations.Contract;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -56,7 +55,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -90,8 +88,8 @@ public final class Scoreboard {
 
     private final Map<String, Objective> objectives = new ConcurrentHashMap<>();
     @Getter
-    private final Map<ScoreboardPosition, DisplaySlot> objectiveSlots = Collections.synchronizedMap(new EnumMap<>(ScoreboardPosition.class));
-    private final List<DisplaySlot> removedSlots = Collections.synchronizedList(new ArrayList<>());
+    private final Map<ScoreboardPosition, DisplaySlot> objectiveSlots = new EnumMap<>(ScoreboardPosition.class);
+    private final List<DisplaySlot> removedSlots = new ArrayList<>();
 
     private final Map<String, Team> teams = new ConcurrentHashMap<>(); // updated on multiple threads
     /**
@@ -102,7 +100,6 @@ public final class Scoreboard {
     @Getter
     private final Map<String, Team> playerToTeam = new Object2ObjectOpenHashMap<>();
 
-    private final AtomicBoolean updateLockActive = new AtomicBoolean(false);
     private int lastAddScoreCount = 0;
     private int lastRemoveScoreCount = 0;
 
@@ -195,11 +192,6 @@ public final class Scoreboard {
     }
 
     public void onUpdate() {
-        // if an update is already running, let it finish
-        if (updateLockActive.getAndSet(true)) {
-            return;
-        }
-
         List<ScoreInfo> addScores = new ArrayList<>(lastAddScoreCount);
         List<ScoreInfo> removeScores = new ArrayList<>(lastRemoveScoreCount);
 
@@ -249,7 +241,6 @@ public final class Scoreboard {
 
         lastAddScoreCount = addScores.size();
         lastRemoveScoreCount = removeScores.size();
-        updateLockActive.set(false);
     }
 
     private void handleDisplaySlot(DisplaySlot slot, List<ScoreInfo> addScores, List<ScoreInfo> removeScores) {
@@ -26,17 +26,20 @@
 package org.geysermc.geyser.scoreboard;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.configuration.GeyserConfig;
 import org.geysermc.geyser.session.GeyserSession;
-import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.text.GeyserLocale;
 
-import java.util.Collection;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
-public final class ScoreboardUpdater extends Thread {
+/**
+ * Throttles scoreboard updates for sessions that receive a lot of scoreboard packets. Below
+ * {@link #FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD} packets per second every packet updates the scoreboard right away;
+ * above it, updates are flushed at most 4 times per second, and above {@link #SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD}
+ * once per second. Flushes are scheduled on the session's own event loop, and only while a session is being throttled.
+ */
+public final class ScoreboardUpdater {
     public static final int FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
     public static final int SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD = 250;
 
@@ -51,131 +54,87 @@ public final class ScoreboardUpdater extends Thread {
         DEBUG_ENABLED = config.debugMode();
     }
 
-    private final GeyserImpl geyser = GeyserImpl.getInstance();
-
-    private long lastUpdate = System.currentTimeMillis();
-    private long lastPacketsPerSecondUpdate = System.currentTimeMillis();
+    private ScoreboardUpdater() {
+    }
 
-    public static void init() {
-        new ScoreboardUpdater().start();
+    private static int millisBetweenUpdates(int packetsPerSecond) {
+        return packetsPerSecond >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD ?
+                SECOND_MILLIS_BETWEEN_UPDATES :
+                FIRST_MILLIS_BETWEEN_UPDATES;
     }
 
-    @Override
-    public void run() {
-        while (!geyser.isShuttingDown() && !geyser.isReloading()) {
-            try {
-                long timeTillAction = getTimeTillNextAction();
-                if (timeTillAction > 0) {
-                    sleepFor(timeTillAction);
-                    continue;
-                }
-
-                long currentTime = System.currentTimeMillis();
-
-                // reset score-packets per second every second
-                Collection<GeyserSession> sessions = geyser.getSessionManager().getSessions().values();
-                if (currentTime - lastPacketsPerSecondUpdate >= 1000) {
-                    lastPacketsPerSecondUpdate = currentTime;
-                    for (GeyserSession session : sessions) {
-                        ScoreboardSession scoreboardSession = session.getWorldCache().getScoreboardSession();
-
-                        int oldPps = scoreboardSession.getPacketsPerSecond();
-                        int newPps = scoreboardSession.getPendingPacketsPerSecond().get();
-
-                        scoreboardSession.packetsPerSecond = newPps;
-                        scoreboardSession.pendingPacketsPerSecond.set(0);
-
-                        // just making sure that all updates are pushed before giving up control
-                        if (oldPps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD &&
-                                newPps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            session.getWorldCache().getScoreboard().onUpdate();
-                        }
-                    }
-                }
-
-                if (currentTime - lastUpdate >= FIRST_MILLIS_BETWEEN_UPDATES) {
-                    lastUpdate = currentTime;
-
-                    for (GeyserSession session : sessions) {
-                        WorldCache worldCache = session.getWorldCache();
-                        ScoreboardSession scoreboardSession = worldCache.getScoreboardSession();
-
-                        int pps = scoreboardSession.getPacketsPerSecond();
-                        if (pps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                            int millisBetweenUpdates = reachedSecondThreshold ?
-                                    SECOND_MILLIS_BETWEEN_UPDATES :
-                                    FIRST_MILLIS_BETWEEN_UPDATES;
-
-                            if (currentTime - scoreboardSession.lastUpdate >= millisBetweenUpdates) {
-                                worldCache.getScoreboard().onUpdate();
-                                scoreboardSession.lastUpdate = currentTime;
-
-                                if (DEBUG_ENABLED && (currentTime - scoreboardSession.lastLog >= 60000)) { // one minute
-                                    int threshold = reachedSecondThreshold ?
-                                            SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
-                                            FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                                    geyser.getLogger().info(
-                                            GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
-                                                    GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
-                                    );
-
-                                    scoreboardSession.lastLog = currentTime;
-                                }
-                            }
-                        }
-                    }
-                }
-
-                if (DEBUG_ENABLED) {
-                    long timeSpent = System.currentTimeMillis() - currentTime;
-                    if (timeSpent > 0) {
-                        geyser.getLogger().info(String.format(
-                                "Scoreboard updater: took %s ms. Updated %s players",
-                                timeSpent, sessions.size()
-                        ));
-                    }
-                }
-
-                long timeTillNextAction = getTimeTillNextAction();
-                sleepFor(timeTillNextAction);
-            } catch (Throwable e) {
-                geyser.getLogger().error("Error while translating scoreboard information!", e);
-                // Wait so we don't try to run the scoreboard immediately after this
-                sleepFor(FIRST_MILLIS_BETWEEN_UPDATES);
+    /**
+     * Keeps the scoreboard packet rate of one session. Only used on the session's event loop.
+     */
+    public static final class ScoreboardSession {
+        private final GeyserSession session;
+        private int pendingPacketsPerSecond;
+        /**
+         * The amount of scoreboard packets received in the last full second
+         */
+        @Getter
+        private int packetsPerSecond;
+        private long secondStart = System.currentTimeMillis();
+        private long lastUpdate;
+        private long lastLog;
+        private boolean flushScheduled;
+
+        public ScoreboardSession(GeyserSession session) {
+            this.session = session;
+        }
+
+        /**
+         * Counts a received scoreboard packet. If the returned rate is at least
+         * {@link #FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD}, an update of the scoreboard has been scheduled and the
+         * caller should not update it itself.
+         *
+         * @return the highest of the packets per second of the last second and the current second so far
+         */
+        public int onPacket() {
+            long currentTime = System.currentTimeMillis();
+            advanceSecond(currentTime);
+
+            int pps = Math.max(packetsPerSecond, ++pendingPacketsPerSecond);
+            if (pps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD && !flushScheduled) {
+                flushScheduled = true;
+                long delay = Math.max(0, lastUpdate + millisBetweenUpdates(pps) - currentTime);
+                session.scheduleInEventLoop(this::flush, delay, TimeUnit.MILLISECONDS);
+            }
+            return pps;
+        }
+
+        private void advanceSecond(long currentTime) {
+            long elapsed = currentTime - secondStart;
+            if (elapsed >= 1000) {
+                // If more than one second passed since the counted second started, the second before this one was silent
+                packetsPerSecond = elapsed < 2000 ? pendingPacketsPerSecond : 0;
+                pendingPacketsPerSecond = 0;
+                secondStart = currentTime - elapsed % 1000;
             }
         }
-    }
 
-    private long getTimeTillNextAction() {
-        long currentTime = System.currentTimeMillis();
+        private void flush() {
+            flushScheduled = false;
+            long currentTime = System.currentTimeMillis();
+            advanceSecond(currentTime);
 
-        long timeUntilNextUpdate = FIRST_MILLIS_BETWEEN_UPDATES - (currentTime - lastUpdate);
-        long timeUntilPacketReset = 1000 - (currentTime - lastPacketsPerSecondUpdate);
+            session.getWorldCache().getScoreboard().onUpdate();
+            lastUpdate = currentTime;
 
-        return Math.min(timeUntilNextUpdate, timeUntilPacketReset);
-    }
+            int pps = Math.max(packetsPerSecond, pendingPacketsPerSecond);
+            if (DEBUG_ENABLED && pps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD && currentTime - lastLog >= 60000) { // one minute
+                boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
+                int threshold = reachedSecondThreshold ?
+                        SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
+                        FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
 
-    private void sleepFor(long millis) {
-        if (millis <= 0) {
-            return;
-        }
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
+                GeyserImpl.getInstance().getLogger().info(
+                        GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
+                                GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates(pps) / 1000.0))
+                );
 
-    @RequiredArgsConstructor
-    @Getter
-    public static final class ScoreboardSession {
-        private final GeyserSession session;
-        private final AtomicInteger pendingPacketsPerSecond = new AtomicInteger(0);
-        private int packetsPerSecond;
-        private long lastUpdate;
-        private long lastLog;
+                lastLog = currentTime;
+            }
+        }
     }
 }
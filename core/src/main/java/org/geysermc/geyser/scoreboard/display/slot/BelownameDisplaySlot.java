@@ -72,24 +72,22 @@ public class BelownameDisplaySlot extends DisplaySlot {
             return;
         }
 
-        synchronized (displayScores) {
-            for (var score : displayScores.values()) {
-                // we don't have to worry about a score not existing, because that's handled by both
-                // this method when an objective is added and addScore/playerRegistered.
-                // we only have to update them, if they have changed
-                // (or delete them, if the score no longer exists)
-                if (!score.shouldUpdate()) {
-                    continue;
-                }
-
-                if (score.referenceRemoved()) {
-                    clearBelowNameText(score.player());
-                    continue;
-                }
-
-                score.markUpdated();
-                setBelowNameText(score.player(), score.reference());
+        for (var score : displayScores.values()) {
+            // we don't have to worry about a score not existing, because that's handled by both
+            // this method when an objective is added and addScore/playerRegistered.
+            // we only have to update them, if they have changed
+            // (or delete them, if the score no longer exists)
+            if (!score.shouldUpdate()) {
+                continue;
             }
+
+            if (score.referenceRemoved()) {
+                clearBelowNameText(score.player());
+                continue;
+            }
+
+            score.markUpdated();
+            setBelowNameText(score.player(), score.reference());
         }
     }
 
@@ -117,9 +115,7 @@ public class BelownameDisplaySlot extends DisplaySlot {
 
     @Override
     public void playerRemoved(PlayerEntity player) {
-        synchronized (displayScores) {
-            displayScores.remove(player.getGeyserId());
-        }
+        displayScores.remove(player.getGeyserId());
     }
 
     private void addDisplayScore(ScoreReference reference) {
@@ -131,9 +127,7 @@ public class BelownameDisplaySlot extends DisplaySlot {
 
     private BelownameDisplayScore addDisplayScore(PlayerEntity player, ScoreReference reference) {
         var score = new BelownameDisplayScore(this, objective.getScoreboard().nextId(), reference, player);
-        synchronized (displayScores) {
-            displayScores.put(player.getGeyserId(), score);
-        }
+        displayScores.put(player.getGeyserId(), score);
         return score;
     }
 
@@ -28,7 +28,6 @@ package org.geysermc.geyser.scoreboard.display.slot;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import org.cloudburstmc.protocol.bedrock.data.ScoreInfo;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
@@ -41,7 +40,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.ScoreboardPositi
 
 public class PlayerlistDisplaySlot extends DisplaySlot {
     private final Long2ObjectMap<PlayerlistDisplayScore> displayScores = new Long2ObjectOpenHashMap<>();
-    private final List<PlayerlistDisplayScore> removedScores = Collections.synchronizedList(new ArrayList<>());
+    private final List<PlayerlistDisplayScore> removedScores = new ArrayList<>();
 
     public PlayerlistDisplaySlot(GeyserSession session, Objective objective) {
         super(session, objective, ScoreboardPosition.PLAYER_LIST);
@@ -69,37 +68,35 @@ public class PlayerlistDisplaySlot extends DisplaySlot {
             removedScores.clear();
         }
 
-        synchronized (displayScores) {
-            for (var score : displayScores.values()) {
-                if (score.referenceRemoved()) {
-                    ScoreInfo cachedInfo = score.cachedInfo();
-                    // cachedInfo can be null here when ScoreboardUpdater is being used and a score is added and
-                    // removed before a single update cycle is performed
-                    if (cachedInfo != null) {
-                        removeScores.add(cachedInfo);
-                    }
-                    continue;
+        for (var score : displayScores.values()) {
+            if (score.referenceRemoved()) {
+                ScoreInfo cachedInfo = score.cachedInfo();
+                // cachedInfo can be null here when updates are being throttled by ScoreboardUpdater and a score
+                // is added and removed before a single update cycle is performed
+                if (cachedInfo != null) {
+                    removeScores.add(cachedInfo);
                 }
+                continue;
+            }
 
-                //todo does an animated title exist on tab?
-                boolean add = objectiveAdd || objectiveUpdate;
-                boolean exists = score.exists();
+            //todo does an animated title exist on tab?
+            boolean add = objectiveAdd || objectiveUpdate;
+            boolean exists = score.exists();
 
-                if (score.shouldUpdate()) {
-                    score.update(objective);
-                    add = true;
-                }
+            if (score.shouldUpdate()) {
+                score.update(objective);
+                add = true;
+            }
 
-                if (add) {
-                    addScores.add(score.cachedInfo());
-                }
+            if (add) {
+                addScores.add(score.cachedInfo());
+            }
 
-                // we need this as long as MCPE-143063 hasn't been fixed.
-                // the checks after 'add' are there to prevent removing scores that
-                // are going to be removed anyway / don't need to be removed
-                if (add && exists && objectiveNothing) {
-                    removeScores.add(score.cachedInfo());
-                }
+            // we need this as long as MCPE-143063 hasn't been fixed.
+            // the checks after 'add' are there to prevent removing scores that
+            // are going to be removed anyway / don't need to be removed
+            if (add && exists && objectiveNothing) {
+                removeScores.add(score.cachedInfo());
             }
         }
 
@@ -124,11 +121,9 @@ public class PlayerlistDisplaySlot extends DisplaySlot {
             players.add(selfPlayer);
         }
 
-        synchronized (displayScores) {
-            for (PlayerEntity player : players) {
-                var score = new PlayerlistDisplayScore(this, objective.getScoreboard().nextId(), reference, player.getGeyserId());
-                displayScores.put(player.getGeyserId(), score);
-            }
+        for (PlayerEntity player : players) {
+            var score = new PlayerlistDisplayScore(this, objective.getScoreboard().nextId(), reference, player.getGeyserId());
+            displayScores.put(player.getGeyserId(), score);
         }
     }
 
@@ -145,17 +140,13 @@ public class PlayerlistDisplaySlot extends DisplaySlot {
         }
 
         var score = new PlayerlistDisplayScore(this, objective.getScoreboard().nextId(), reference, player.getGeyserId());
-        synchronized (displayScores) {
-            displayScores.put(player.getGeyserId(), score);
-        }
+        displayScores.put(player.getGeyserId(), score);
     }
 
     @Override
     public void playerRemoved(PlayerEntity player) {
         PlayerlistDisplayScore score;
-        synchronized (displayScores) {
-            score = displayScores.remove(player.getGeyserId());
-        }
+        score = displayScores.remove(player.getGeyserId());
 
         if (score == null) {
             return;
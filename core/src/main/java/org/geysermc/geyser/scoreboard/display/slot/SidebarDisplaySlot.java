@@ -26,10 +26,8 @@
 package org.geysermc.geyser.scoreboard.display.slot;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.cloudburstmc.protocol.bedrock.data.ScoreInfo;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.scoreboard.Objective;
@@ -43,10 +41,6 @@ import org.geysermc.mcprotocollib.protocol.data.game.scoreboard.ScoreboardPositi
 
 public final class SidebarDisplaySlot extends DisplaySlot {
     private static final int SCORE_DISPLAY_LIMIT = 15;
-    private static final Comparator<ScoreReference> SCORE_DISPLAY_ORDER =
-        Comparator.comparing(ScoreReference::score)
-            .reversed()
-            .thenComparing(ScoreReference::name, String.CASE_INSENSITIVE_ORDER);
 
     private List<SidebarDisplayScore> displayScores = new ArrayList<>(SCORE_DISPLAY_LIMIT);
     /// A copy of displayScores which can be modified by the render0 method for its calculation of the scores to
@@ -61,27 +55,12 @@ public final class SidebarDisplaySlot extends DisplaySlot {
 
     @Override
     protected void render0(List<ScoreInfo> addScores, List<ScoreInfo> removeScores) {
-        // While one could argue that we may not have to do this fancy Java filter when there are fewer scores than the
-        // line limit, it is also responsible for making sure that the scores are in the correct order.
-        var newDisplayScores =
-            objective.getScores().values().stream()
-                .filter(score -> !score.hidden())
-                .sorted(SCORE_DISPLAY_ORDER)
-                .limit(SCORE_DISPLAY_LIMIT)
-                .map(reference -> {
-                    // pretty much an ArrayList#remove
-                    var iterator = displayScoresCopy.iterator();
-                    while (iterator.hasNext()) {
-                        var score = iterator.next();
-                        if (score.name().equals(reference.name())) {
-                            iterator.remove();
-                            return score;
-                        }
-                    }
-
-                    // new score, so it should be added
-                    return new SidebarDisplayScore(this, objective.getScoreboard().nextId(), reference);
-                }).collect(Collectors.toList());
+        // The objective keeps its visible scores sorted, so only the scores that are actually displayed are visited here
+        List<ScoreReference> references = objective.sidebarScores(SCORE_DISPLAY_LIMIT);
+        List<SidebarDisplayScore> newDisplayScores = new ArrayList<>(references.size());
+        for (ScoreReference reference : references) {
+            newDisplayScores.add(displayScoreFor(reference));
+        }
 
         // Make sure that we set the displayScores as early as possible, because setTeamFor relies on these potential
         // changes. And even if no scores were added or removed, the order could've changed.
@@ -177,6 +156,21 @@ public final class SidebarDisplaySlot extends DisplaySlot {
         updateType = UpdateType.NOTHING;
     }
 
+    private SidebarDisplayScore displayScoreFor(ScoreReference reference) {
+        // pretty much an ArrayList#remove
+        var iterator = displayScoresCopy.iterator();
+        while (iterator.hasNext()) {
+            var score = iterator.next();
+            if (score.name().equals(reference.name())) {
+                iterator.remove();
+                return score;
+            }
+        }
+
+        // new score, so it should be added
+        return new SidebarDisplayScore(this, objective.getScoreboard().nextId(), reference);
+    }
+
     @Override
     public void addScore(ScoreReference reference) {
         // we handle them a bit different: we sort the scores, and we add them ourselves
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.registry.Registries;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Moves the CPU-heavy part of chunk translation off the session's {@link GeyserSession#getTickEventLoop() tick event loop}
+ * onto a thread pool shared between all sessions.
+ * <p>
+ * Results are handed back to the tick event loop in the order the chunks arrived in. Any other Java packet that arrives
+ * while chunks are still being translated is held back until the chunks before it have been completed, so the chunk cache
+ * and the Bedrock client see everything in the order the Java server sent it. Bedrock packets are not affected, so
+ * movement and inventory handling stay responsive during a chunk burst.
+ * <p>
+ * Every session may only have a limited amount of chunks on the pool at once, so one player's burst cannot starve everyone else.
+ * Disabled by default; set the {@code Geyser.ChunkTranslationThreads} system property to the size of the pool to enable it.
+ * All methods except the pool work itself must be called on the tick event loop.
+ */
+public final class ChunkTranslationPipeline {
+    private static final int THREADS = Integer.getInteger("Geyser.ChunkTranslationThreads", 0);
+    private static final int MAX_IN_FLIGHT_PER_SESSION = Math.max(1, Integer.getInteger("Geyser.ChunkTranslationMaxInFlight", 4));
+
+    private static final @Nullable ExecutorService POOL = THREADS <= 0 ? null :
+            Executors.newFixedThreadPool(THREADS, new DefaultThreadFactory("Geyser chunk translation", true));
+
+    private final GeyserSession session;
+    /**
+     * Chunks and deferred packets, in the order they were received.
+     */
+    private final Deque<Stage<?>> stages = new ArrayDeque<>();
+    /**
+     * Stages queued while another stage is being completed; these must run before anything that is already waiting.
+     */
+    private final List<Stage<?>> insertedStages = new ArrayList<>();
+    private boolean completing;
+    private int inFlight;
+
+    ChunkTranslationPipeline(GeyserSession session) {
+        this.session = session;
+    }
+
+    public static boolean isEnabled() {
+        return POOL != null;
+    }
+
+    /**
+     * @return if this Java packet must wait for chunks that are still being translated
+     */
+    public boolean shouldDefer(Packet packet) {
+        if (this.stages.isEmpty()) {
+            return false;
+        }
+        if (packet instanceof ClientboundLevelChunkWithLightPacket) {
+            // Chunks can be translated alongside each other, as long as nothing else is waiting between them
+            for (Stage<?> stage : this.stages) {
+                if (stage.work == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        // Packets without a translator have nothing to wait for
+        return Registries.JAVA_PACKET_TRANSLATORS.get(packet.getClass()) != null;
+    }
+
+    /**
+     * Runs the task once every chunk received before it has been sent to the client.
+     */
+    public void defer(Runnable runnable) {
+        queue(new Stage<>(null, null, runnable));
+    }
+
+    /**
+     * Translates a chunk on the pool, and then completes it on the tick event loop in order.
+     *
+     * @param work the part of the translation that is safe to run off the tick event loop
+     * @param completion the part of the translation that must run on the tick event loop
+     */
+    public <T> void submit(Supplier<T> work, Consumer<T> completion) {
+        queue(new Stage<>(work, completion, null));
+        startWork();
+    }
+
+    /**
+     * Drops everything that is still waiting, for example because the session has disconnected.
+     */
+    public void clear() {
+        this.stages.clear();
+        this.insertedStages.clear();
+    }
+
+    private void queue(Stage<?> stage) {
+        if (this.completing) {
+            this.insertedStages.add(stage);
+        } else {
+            this.stages.addLast(stage);
+        }
+    }
+
+    private void startWork() {
+        if (POOL == null) {
+            return;
+        }
+        for (Stage<?> stage : this.stages) {
+            if (this.inFlight >= MAX_IN_FLIGHT_PER_SESSION) {
+                return;
+            }
+            if (stage.work != null && stage.future == null) {
+                this.inFlight++;
+                stage.start(POOL).whenComplete((result, throwable) -> this.session.getTickEventLoop().execute(this::onWorkDone));
+            }
+        }
+    }
+
+    private void onWorkDone() {
+        this.inFlight--;
+        if (this.session.isClosed()) {
+            clear();
+            return;
+        }
+        completeReadyStages();
+        startWork();
+    }
+
+    private void completeReadyStages() {
+        while (!this.stages.isEmpty()) {
+            Stage<?> stage = this.stages.peekFirst();
+            if (stage.work != null && (stage.future == null || !stage.future.isDone())) {
+                return;
+            }
+            this.stages.pollFirst();
+
+            this.completing = true;
+            try {
+                stage.complete();
+            } catch (Throwable t) {
+                GeyserImpl.getInstance().getLogger().error("Error while completing chunk translation", t);
+            } finally {
+                this.completing = false;
+            }
+
+            if (!this.insertedStages.isEmpty()) {
+                for (int i = this.insertedStages.size() - 1; i >= 0; i--) {
+                    this.stages.addFirst(this.insertedStages.get(i));
+                }
+                this.insertedStages.clear();
+                startWork();
+            }
+
+            if (this.session.isClosed()) {
+                clear();
+                return;
+            }
+        }
+    }
+
+    private static final class Stage<T> {
+        private final @Nullable Supplier<T> work;
+        private final @Nullable Consumer<T> completion;
+        private final @Nullable Runnable deferred;
+        private @Nullable CompletableFuture<T> future;
+
+        private Stage(@Nullable Supplier<T> work, @Nullable Consumer<T> completion, @Nullable Runnable deferred) {
+            this.work = work;
+            this.completion = completion;
+            this.deferred = deferred;
+        }
+
+        private CompletableFuture<T> start(ExecutorService pool) {
+            return this.future = CompletableFuture.supplyAsync(this.work, pool);
+        }
+
+        private void complete() {
+            if (this.deferred != null) {
+                this.deferred.run();
+                return;
+            }
+
+            T result;
+            try {
+                result = this.future.join();
+            } catch (Throwable t) {
+                GeyserImpl.getInstance().getLogger().error("Error while translating chunk", t.getCause() != null ? t.getCause() : t);
+                return;
+            }
+            if (result != null) {
+                this.completion.accept(result);
+            }
+        }
+    }
+}
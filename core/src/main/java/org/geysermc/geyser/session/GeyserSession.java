@@ -155,6 +155,7 @@ import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.JavaDimension;
 import org.geysermc.geyser.level.physics.CollisionManager;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.PlayerEventLoopBalancer;
 import org.geysermc.geyser.network.netty.LocalSession;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.BlockMappings;
@@ -162,20 +163,24 @@ import org.geysermc.geyser.registry.type.ItemMappings;
 import org.geysermc.geyser.session.auth.AuthData;
 import org.geysermc.geyser.session.auth.BedrockClientData;
 import org.geysermc.geyser.session.cache.AdvancementsCache;
+import org.geysermc.geyser.session.cache.BlobCache;
 import org.geysermc.geyser.session.cache.BlockBreakHandler;
 import org.geysermc.geyser.session.cache.BookEditCache;
 import org.geysermc.geyser.session.cache.BundleCache;
 import org.geysermc.geyser.session.cache.ChunkCache;
+import org.geysermc.geyser.session.cache.ComponentHashCache;
 import org.geysermc.geyser.session.cache.EntityCache;
 import org.geysermc.geyser.session.cache.EntityEffectCache;
 import org.geysermc.geyser.session.cache.FormCache;
 import org.geysermc.geyser.session.cache.InputCache;
+import org.geysermc.geyser.session.cache.ItemTranslationCache;
 import org.geysermc.geyser.session.cache.LodestoneCache;
 import org.geysermc.geyser.session.cache.PistonCache;
 import org.geysermc.geyser.session.cache.PreferencesCache;
 import org.geysermc.geyser.session.cache.RegistryCache;
 import org.geysermc.geyser.session.cache.SkullCache;
 import org.geysermc.geyser.session.cache.StructureBlockCache;
+import org.geysermc.geyser.session.cache.SubChunkCache;
 import org.geysermc.geyser.session.cache.TagCache;
 import org.geysermc.geyser.session.cache.TeleportCache;
 import org.geysermc.geyser.session.cache.WorldBorder;
@@ -189,6 +194,7 @@ import org.geysermc.geyser.session.dialog.DialogManager;
 import org.geysermc.geyser.skin.SkinManager;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.translator.inventory.InventoryTranslator;
+import org.geysermc.geyser.translator.protocol.PacketMetrics;
 import org.geysermc.geyser.translator.text.MessageTranslator;
 import org.geysermc.geyser.util.ChunkUtils;
 import org.geysermc.geyser.util.EntityUtils;
@@ -262,6 +268,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * If this is manually called, ensure that any exceptions are properly handled.
      */
     private final EventLoop tickEventLoop;
+    /**
+     * The load accounting of {@link #tickEventLoop}, which the time spent on this session is added to
+     */
+    private final PlayerEventLoopBalancer.LoopLoad tickLoopLoad;
     @Setter
     private AuthData authData;
     private BedrockClientData clientData;
@@ -284,23 +294,37 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final SessionPlayerEntity playerEntity;
 
     private final AdvancementsCache advancementsCache;
+    private final BlobCache blobCache;
     private final BookEditCache bookEditCache;
     private final BundleCache bundleCache;
     private final ChunkCache chunkCache;
+    private final ComponentHashCache componentHashCache;
     private final EntityCache entityCache;
     private final EntityEffectCache effectCache;
     private final FormCache formCache;
     private final InputCache inputCache;
+    private final ItemTranslationCache itemTranslationCache;
     private final LodestoneCache lodestoneCache;
     private final PistonCache pistonCache;
     private final PreferencesCache preferencesCache;
     private final RegistryCache registryCache;
     private final SkullCache skullCache;
     private final StructureBlockCache structureBlockCache;
+    private final SubChunkCache subChunkCache;
     private final TagCache tagCache;
     private final WaypointCache waypointCache;
     private final WorldCache worldCache;
 
+    /**
+     * Translates chunks off the tick event loop, if enabled.
+     */
+    private final ChunkTranslationPipeline chunkTranslationPipeline;
+
+    /**
+     * Translation timings of this session's packets; only recorded while {@link PacketMetrics#isEnabled()}.
+     */
+    private final PacketMetrics packetMetrics = new PacketMetrics();
+
     /**
      * Handles block breaking and break animation progress caching.
      */
@@ -763,30 +787,36 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final Set<InputLocksFlag> inputLocksSet = EnumSet.noneOf(InputLocksFlag.class);
     private boolean inputLockDirty;
 
-    public GeyserSession(GeyserImpl geyser, BedrockServerSession bedrockServerSession, EventLoop tickEventLoop) {
+    public GeyserSession(GeyserImpl geyser, BedrockServerSession bedrockServerSession, PlayerEventLoopBalancer.LoopLoad tickLoopLoad) {
         this.geyser = geyser;
-        this.upstream = new UpstreamSession(bedrockServerSession);
-        this.tickEventLoop = tickEventLoop;
+        this.tickEventLoop = tickLoopLoad.eventLoop();
+        this.tickLoopLoad = tickLoopLoad;
+        this.upstream = new UpstreamSession(bedrockServerSession, this.tickEventLoop);
 
         this.erosionHandler = new GeyserboundHandshakePacketHandler(this);
 
         this.advancementsCache = new AdvancementsCache(this);
+        this.blobCache = new BlobCache(this);
         this.bookEditCache = new BookEditCache(this);
         this.bundleCache = new BundleCache(this);
         this.chunkCache = new ChunkCache(this);
+        this.componentHashCache = new ComponentHashCache(this);
         this.entityCache = new EntityCache(this);
         this.effectCache = new EntityEffectCache();
         this.formCache = new FormCache(this);
         this.inputCache = new InputCache(this);
+        this.itemTranslationCache = new ItemTranslationCache(this);
         this.lodestoneCache = new LodestoneCache();
         this.pistonCache = new PistonCache(this);
         this.preferencesCache = new PreferencesCache(this);
         this.registryCache = new RegistryCache(this);
         this.skullCache = new SkullCache(this);
         this.structureBlockCache = new StructureBlockCache();
+        this.subChunkCache = new SubChunkCache(this);
         this.tagCache = new TagCache(this);
         this.waypointCache = new WaypointCache(this);
         this.worldCache = new WorldCache(this);
+        this.chunkTranslationPipeline = new ChunkTranslationPipeline(this);
         this.cameraData = new GeyserCameraData(this);
         this.entityData = new GeyserEntityData(this);
 
@@ -1154,6 +1184,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
             // Remove from session manager
             geyser.getSessionManager().removeSession(this);
+            tickLoopLoad.release();
             if (authData != null) {
                 PendingMicrosoftAuthentication.AuthenticationTask task = geyser.getPendingMicrosoftAuthentication().getTask(authData.xuid());
                 if (task != null) {
@@ -1169,6 +1200,12 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         // Mark session as closed before cancelling erosion futures
         closed = true;
         erosionHandler.close();
+
+        // Give back this session's share of the global chunk cache memory
+        // The sub-chunk cache goes first, as its memory is part of the chunk cache's
+        ensureInEventLoop(subChunkCache::clear);
+        ensureInEventLoop(chunkCache::clear);
+        ensureInEventLoop(blobCache::clear);
     }
 
     /**
@@ -1236,6 +1273,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * Called every Minecraft tick.
      */
     protected void tick() {
+        long startedAt = System.nanoTime();
         try {
             pistonCache.tick();
 
@@ -1313,6 +1351,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
         ticks++;
         worldTicks++;
+        tickLoopLoad.addBusyTime(System.nanoTime() - startedAt);
     }
 
     public void startSneaking(boolean updateMetaData) {
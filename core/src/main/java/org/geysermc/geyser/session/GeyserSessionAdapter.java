@@ -224,6 +224,11 @@ public class GeyserSessionAdapter extends SessionAdapter {
 
     @Override
     public void packetReceived(Session session, Packet packet) {
+        ChunkTranslationPipeline chunkTranslationPipeline = this.session.getChunkTranslationPipeline();
+        if (chunkTranslationPipeline.shouldDefer(packet)) {
+            chunkTranslationPipeline.defer(() -> Registries.JAVA_PACKET_TRANSLATORS.translate(packet.getClass(), packet, this.session, true));
+            return;
+        }
         Registries.JAVA_PACKET_TRANSLATORS.translate(packet.getClass(), packet, this.session, true);
     }
 
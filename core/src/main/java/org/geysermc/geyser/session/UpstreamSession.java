@@ -25,39 +25,265 @@
 
 package org.geysermc.geyser.session;
 
+import io.netty.channel.EventLoop;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.cloudburstmc.protocol.bedrock.BedrockServerSession;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodecHelper;
+import org.cloudburstmc.protocol.bedrock.packet.AddEntityPacket;
+import org.cloudburstmc.protocol.bedrock.packet.AddItemEntityPacket;
+import org.cloudburstmc.protocol.bedrock.packet.AddPlayerPacket;
+import org.cloudburstmc.protocol.bedrock.packet.AnimateEntityPacket;
+import org.cloudburstmc.protocol.bedrock.packet.AnimatePacket;
 import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ChangeDimensionPacket;
+import org.cloudburstmc.protocol.bedrock.packet.EntityEventPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MobArmorEquipmentPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MobEffectPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MobEquipmentPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MoveEntityAbsolutePacket;
+import org.cloudburstmc.protocol.bedrock.packet.MoveEntityDeltaPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MovePlayerPacket;
+import org.cloudburstmc.protocol.bedrock.packet.RemoveEntityPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SetEntityDataPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SetEntityLinkPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SetEntityMotionPacket;
+import org.cloudburstmc.protocol.bedrock.packet.TakeItemEntityPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateAttributesPacket;
 import org.geysermc.geyser.network.GeyserBedrockPeer;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 
-@RequiredArgsConstructor
 public class UpstreamSession {
+    /**
+     * If enabled, packets are collected while Geyser is busy translating and handed to the Bedrock session together,
+     * dropping entity movement and metadata updates that are overwritten later in the same batch.
+     */
+    private static final boolean COALESCE_PACKETS = Boolean.getBoolean("Geyser.CoalesceUpstreamPackets");
+    /**
+     * Flush the batch early once this many packets have been collected.
+     */
+    private static final int MAX_PENDING_PACKETS = Math.max(1, Integer.getInteger("Geyser.CoalesceMaxPackets", 256));
+    private static final Set<MoveEntityDeltaPacket.Flag> DELTA_VALUES = EnumSet.of(MoveEntityDeltaPacket.Flag.HAS_X,
+        MoveEntityDeltaPacket.Flag.HAS_Y, MoveEntityDeltaPacket.Flag.HAS_Z, MoveEntityDeltaPacket.Flag.HAS_PITCH,
+        MoveEntityDeltaPacket.Flag.HAS_YAW, MoveEntityDeltaPacket.Flag.HAS_HEAD_YAW);
+
     @Getter private final BedrockServerSession session;
+    private final EventLoop eventLoop;
     @Getter @Setter
     private boolean initialized = false;
     private Queue<BedrockPacket> postStartGamePackets = new ArrayDeque<>();
 
+    /**
+     * Packets waiting to be flushed. Slots of packets that were superseded are set to null.
+     */
+    private final List<BedrockPacket> pendingPackets;
+    /**
+     * Runtime entity ID to the index of its last movement packet in {@link #pendingPackets}.
+     */
+    private final Long2IntMap pendingMovement;
+    /**
+     * Runtime entity ID to the index of its last metadata packet in {@link #pendingPackets}.
+     */
+    private final Long2IntMap pendingEntityData;
+    private boolean flushScheduled;
+
+    /**
+     * @param session the Bedrock session
+     * @param eventLoop the event loop that flushes collected packets once it is done with its current work
+     */
+    public UpstreamSession(BedrockServerSession session, EventLoop eventLoop) {
+        this.session = session;
+        this.eventLoop = eventLoop;
+        if (COALESCE_PACKETS) {
+            this.pendingPackets = new ArrayList<>();
+            this.pendingMovement = new Long2IntOpenHashMap();
+            this.pendingMovement.defaultReturnValue(-1);
+            this.pendingEntityData = new Long2IntOpenHashMap();
+            this.pendingEntityData.defaultReturnValue(-1);
+        } else {
+            this.pendingPackets = null;
+            this.pendingMovement = null;
+            this.pendingEntityData = null;
+        }
+    }
+
     public void sendPacket(@NonNull BedrockPacket packet) {
-        if (!isClosed()) {
+        if (isClosed()) {
+            return;
+        }
+
+        if (pendingPackets == null) {
             session.sendPacket(packet);
+            return;
+        }
+
+        synchronized (pendingPackets) {
+            addPendingPacket(packet);
+            if (pendingPackets.size() >= MAX_PENDING_PACKETS) {
+                flushPendingPackets();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                eventLoop.execute(this::flush);
+            }
         }
     }
 
     public void sendPacketImmediately(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
+            // Anything collected so far must not arrive after this packet
+            flush();
             session.sendPacketImmediately(packet);
         }
     }
 
+    /**
+     * Hands all collected packets to the Bedrock session. Does nothing if packets are not being collected.
+     */
+    public void flush() {
+        if (pendingPackets == null) {
+            return;
+        }
+
+        synchronized (pendingPackets) {
+            flushScheduled = false;
+            flushPendingPackets();
+        }
+    }
+
+    private void flushPendingPackets() {
+        if (!isClosed()) {
+            for (int i = 0; i < pendingPackets.size(); i++) {
+                BedrockPacket packet = pendingPackets.get(i);
+                if (packet != null) {
+                    session.sendPacket(packet);
+                }
+            }
+        }
+        pendingPackets.clear();
+        pendingMovement.clear();
+        pendingEntityData.clear();
+    }
+
+    private void addPendingPacket(BedrockPacket packet) {
+        if (packet instanceof MoveEntityAbsolutePacket || packet instanceof MoveEntityDeltaPacket || packet instanceof MovePlayerPacket) {
+            long runtimeEntityId = movementEntityId(packet);
+            int previous = pendingMovement.get(runtimeEntityId);
+            if (previous != -1 && supersedesMovement(pendingPackets.get(previous), packet)) {
+                pendingPackets.set(previous, null);
+            }
+            pendingMovement.put(runtimeEntityId, pendingPackets.size());
+        } else if (packet instanceof SetEntityDataPacket entityData) {
+            int previous = pendingEntityData.get(entityData.getRuntimeEntityId());
+            if (previous != -1) {
+                // Both updates are sent at the position of the later one, which is never earlier than where they would have been
+                packet = mergeEntityData((SetEntityDataPacket) pendingPackets.get(previous), entityData);
+                pendingPackets.set(previous, null);
+            }
+            pendingEntityData.put(entityData.getRuntimeEntityId(), pendingPackets.size());
+        } else if (packet instanceof AddEntityPacket || packet instanceof AddPlayerPacket || packet instanceof AddItemEntityPacket
+                || packet instanceof RemoveEntityPacket || packet instanceof SetEntityLinkPacket || packet instanceof ChangeDimensionPacket) {
+            // Entity updates must not be moved past an entity being (re)spawned, removed, or mounted
+            pendingMovement.clear();
+            pendingEntityData.clear();
+        } else if (packet instanceof AnimateEntityPacket animate) {
+            for (long runtimeEntityId : animate.getRuntimeEntityIds()) {
+                pendingEntityData.remove(runtimeEntityId);
+            }
+        } else if (packet instanceof TakeItemEntityPacket takeItem) {
+            pendingEntityData.remove(takeItem.getRuntimeEntityId());
+            pendingEntityData.remove(takeItem.getItemRuntimeEntityId());
+        } else {
+            long runtimeEntityId = targetedEntityId(packet);
+            if (runtimeEntityId != -1) {
+                // Metadata must keep its order relative to other updates of the same entity (e.g. pose vs. an animation)
+                pendingEntityData.remove(runtimeEntityId);
+            }
+        }
+        pendingPackets.add(packet);
+    }
+
+    /**
+     * @return the runtime entity ID this packet updates, or -1 if it isn't an entity update we know of
+     */
+    private static long targetedEntityId(BedrockPacket packet) {
+        if (packet instanceof EntityEventPacket event) {
+            return event.getRuntimeEntityId();
+        } else if (packet instanceof AnimatePacket animate) {
+            return animate.getRuntimeEntityId();
+        } else if (packet instanceof MobEquipmentPacket equipment) {
+            return equipment.getRuntimeEntityId();
+        } else if (packet instanceof MobArmorEquipmentPacket armor) {
+            return armor.getRuntimeEntityId();
+        } else if (packet instanceof MobEffectPacket effect) {
+            return effect.getRuntimeEntityId();
+        } else if (packet instanceof UpdateAttributesPacket attributes) {
+            return attributes.getRuntimeEntityId();
+        } else if (packet instanceof SetEntityMotionPacket motion) {
+            return motion.getRuntimeEntityId();
+        }
+        return -1;
+    }
+
+    private static long movementEntityId(BedrockPacket packet) {
+        if (packet instanceof MoveEntityAbsolutePacket absolute) {
+            return absolute.getRuntimeEntityId();
+        } else if (packet instanceof MoveEntityDeltaPacket delta) {
+            return delta.getRuntimeEntityId();
+        }
+        return ((MovePlayerPacket) packet).getRuntimeEntityId();
+    }
+
+    /**
+     * @return whether the earlier movement packet can be dropped, as the later one fully replaces it
+     */
+    private static boolean supersedesMovement(BedrockPacket earlier, BedrockPacket later) {
+        if (earlier instanceof MoveEntityAbsolutePacket absolute && later instanceof MoveEntityAbsolutePacket laterAbsolute) {
+            return !absolute.isTeleported() || laterAbsolute.isTeleported();
+        }
+        if (earlier instanceof MoveEntityDeltaPacket delta && later instanceof MoveEntityDeltaPacket laterDelta) {
+            for (MoveEntityDeltaPacket.Flag flag : DELTA_VALUES) {
+                if (delta.getFlags().contains(flag) && !laterDelta.getFlags().contains(flag)) {
+                    return false;
+                }
+            }
+            return !delta.getFlags().contains(MoveEntityDeltaPacket.Flag.TELEPORTING) || laterDelta.getFlags().contains(MoveEntityDeltaPacket.Flag.TELEPORTING);
+        }
+        if (earlier instanceof MovePlayerPacket move && later instanceof MovePlayerPacket laterMove) {
+            // Teleports and respawns of the session player reposition the client and are always kept
+            return move.getMode() != MovePlayerPacket.Mode.TELEPORT && move.getMode() != MovePlayerPacket.Mode.RESPAWN
+                && laterMove.getMode() != MovePlayerPacket.Mode.HEAD_ROTATION;
+        }
+        return false;
+    }
+
+    /**
+     * Creates a new packet, as the given packets may be shared with other sessions.
+     */
+    private static SetEntityDataPacket mergeEntityData(SetEntityDataPacket earlier, SetEntityDataPacket later) {
+        SetEntityDataPacket merged = new SetEntityDataPacket();
+        merged.setRuntimeEntityId(later.getRuntimeEntityId());
+        merged.getMetadata().putAll(earlier.getMetadata());
+        merged.getMetadata().putAll(later.getMetadata());
+        merged.getProperties().getIntProperties().addAll(earlier.getProperties().getIntProperties());
+        merged.getProperties().getIntProperties().addAll(later.getProperties().getIntProperties());
+        merged.getProperties().getFloatProperties().addAll(earlier.getProperties().getFloatProperties());
+        merged.getProperties().getFloatProperties().addAll(later.getProperties().getFloatProperties());
+        merged.setTick(later.getTick());
+        return merged;
+    }
+
     public void disconnect(String reason) {
+        flush();
         this.session.disconnect(reason);
     }
 
@@ -75,7 +301,7 @@ public class UpstreamSession {
 
         BedrockPacket packet;
         while ((packet = postStartGamePackets.poll()) != null) {
-            session.sendPacket(packet);
+            sendPacket(packet);
         }
         postStartGamePackets = null;
     }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import lombok.Setter;
+import org.cloudburstmc.protocol.bedrock.packet.ClientCacheMissResponsePacket;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.util.XXHash64;
+
+/**
+ * Implements the server side of the Bedrock client blob cache. Chunks are sent as a list of blob IDs (hashes of the
+ * sub-chunks and biomes); the client then tells us which of them it already has stored, and we only send the rest.
+ * <p>
+ * Only the blobs the client has not answered for yet are kept here. Must only be used on the session's event loop.
+ */
+public class BlobCache {
+    /**
+     * Whether chunks may be sent through the blob cache to clients that support it.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("Geyser.ClientBlobCache");
+    /**
+     * Once this many blobs are waiting for an answer, chunks are sent without the blob cache until the client catches up.
+     * Pending blobs are never dropped, as the client could not load the chunks referencing them otherwise.
+     */
+    private static final int MAX_PENDING_BLOBS = 16384;
+
+    private final GeyserSession session;
+    private final Long2ObjectOpenHashMap<PendingBlob> pendingBlobs = new Long2ObjectOpenHashMap<>();
+    /**
+     * If the client told us in its ClientCacheStatusPacket that it supports the blob cache.
+     */
+    @Setter
+    private boolean supported;
+
+    public BlobCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * @return whether chunks should be sent as blobs to this client right now
+     */
+    public boolean isActive() {
+        return ENABLED && supported && pendingBlobs.size() < MAX_PENDING_BLOBS;
+    }
+
+    /**
+     * Keeps a blob around until the client tells us whether it needs it.
+     *
+     * @param blob the blob, which this cache takes ownership of
+     * @return the ID of the blob to send in the chunk packet
+     */
+    public long addBlob(ByteBuf blob) {
+        long blobId = XXHash64.hash(blob);
+        PendingBlob pending = pendingBlobs.get(blobId);
+        if (pending != null) {
+            // Same contents are already waiting for an answer; the client will answer for this chunk too
+            pending.references++;
+            blob.release();
+        } else {
+            pendingBlobs.put(blobId, new PendingBlob(blob));
+        }
+        return blobId;
+    }
+
+    /**
+     * Sends the client the blobs it did not have cached, and forgets about all blobs it answered for.
+     *
+     * @param missing the blobs the client needs
+     * @param received the blobs the client already had
+     */
+    public void onBlobStatus(LongList missing, LongList received) {
+        for (int i = 0; i < received.size(); i++) {
+            ByteBuf blob = answered(received.getLong(i));
+            if (blob != null) {
+                blob.release();
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        ClientCacheMissResponsePacket response = new ClientCacheMissResponsePacket();
+        for (int i = 0; i < missing.size(); i++) {
+            long blobId = missing.getLong(i);
+            ByteBuf blob = answered(blobId);
+            if (blob == null) {
+                GeyserImpl.getInstance().getLogger().debug("Client " + session.bedrockUsername() + " requested unknown blob " + blobId);
+                continue;
+            }
+            response.getBlobs().put(blobId, blob);
+        }
+        session.sendUpstreamPacket(response);
+    }
+
+    /**
+     * @return the blob, retained for the caller, or null if it is not pending
+     */
+    private ByteBuf answered(long blobId) {
+        PendingBlob pending = pendingBlobs.get(blobId);
+        if (pending == null) {
+            return null;
+        }
+        if (--pending.references > 0) {
+            return pending.blob.retainedDuplicate();
+        }
+        pendingBlobs.remove(blobId);
+        return pending.blob;
+    }
+
+    public void clear() {
+        for (PendingBlob pending : pendingBlobs.values()) {
+            pending.blob.release();
+        }
+        pendingBlobs.clear();
+    }
+
+    private static final class PendingBlob {
+        private final ByteBuf blob;
+        /**
+         * How many chunks sent this blob that the client has not answered for yet.
+         */
+        private int references = 1;
+
+        PendingBlob(ByteBuf blob) {
+            this.blob = blob;
+        }
+    }
+}
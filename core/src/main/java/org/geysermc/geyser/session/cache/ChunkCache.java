@@ -27,18 +27,59 @@ package org.geysermc.geyser.session.cache;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import lombok.Getter;
 import lombok.Setter;
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.level.chunk.BlockStorage;
 import org.geysermc.geyser.level.chunk.GeyserChunk;
-import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.util.ChunkUtils;
 import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
 public class ChunkCache {
+    /**
+     * Stores chunks as {@link org.geysermc.geyser.level.chunk.CompactChunkSection}s instead of MCProtocolLib palettes.
+     */
+    public static final boolean COMPACT = Boolean.getBoolean("Geyser.CompactChunkCache");
+    /**
+     * How much memory one session's chunk cache may use before chunks outside the client's view are evicted, in megabytes.
+     * Chunks in view are never evicted, as the server won't send them again; use {@link #COMPACT} to reduce their memory usage.
+     */
+    private static final long MAX_SESSION_MEMORY = Long.getLong("Geyser.ChunkCacheSessionMemory", 0L) * 1024 * 1024;
+    /**
+     * How much memory all chunk caches may use together before chunks are evicted, in megabytes.
+     * Once exceeded, only sessions using more than an equal share of it evict their own chunks.
+     */
+    private static final long MAX_GLOBAL_MEMORY = Long.getLong("Geyser.ChunkCacheGlobalMemory", 0L) * 1024 * 1024;
+    private static final AtomicLong GLOBAL_MEMORY_USAGE = new AtomicLong();
+
+    private final GeyserSession session;
     private final boolean cache;
     private final Long2ObjectMap<GeyserChunk> chunks;
+    /**
+     * An estimate of the memory used by this cache, in bytes. Only written on the session's event loop, but read by dumps.
+     */
+    @Getter
+    private volatile long memoryUsage;
+    /**
+     * The last chunk returned by {@link #getChunk(int, int)}. Block lookups tend to be clustered around the player,
+     * so this saves re-hashing the same chunk position over and over.
+     */
+    private long lastChunkPosition;
+    private GeyserChunk lastChunk;
+    /**
+     * If this cache is over its memory limit with nothing left to evict, so that is only logged once.
+     */
+    private boolean overLimit;
 
     @Setter
     private int minY;
@@ -46,6 +87,7 @@ public class ChunkCache {
     private int heightY;
 
     public ChunkCache(GeyserSession session) {
+        this.session = session;
         this.cache = !session.getGeyser().getWorldManager().hasOwnChunkCache(); // To prevent Spigot from initializing
         chunks = cache ? new Long2ObjectOpenHashMap<>() : null;
     }
@@ -56,8 +98,92 @@ public class ChunkCache {
         }
 
         long chunkPosition = MathUtils.chunkPositionToLong(x, z);
-        GeyserChunk geyserChunk = GeyserChunk.from(chunks);
-        this.chunks.put(chunkPosition, geyserChunk);
+        GeyserChunk geyserChunk = COMPACT ? GeyserChunk.compact(chunks) : GeyserChunk.from(chunks);
+        GeyserChunk previous = this.chunks.put(chunkPosition, geyserChunk);
+        this.lastChunk = null;
+        if (previous != null) {
+            addMemoryUsage(-previous.memoryUsage());
+        }
+        addMemoryUsage(geyserChunk.memoryUsage());
+
+        long limit = MAX_SESSION_MEMORY > 0 ? MAX_SESSION_MEMORY : Long.MAX_VALUE;
+        if (MAX_GLOBAL_MEMORY > 0 && GLOBAL_MEMORY_USAGE.get() > MAX_GLOBAL_MEMORY) {
+            // Other sessions' caches can only be touched on their own event loops, so every session keeps itself
+            // within its share - a session with few chunks loaded doesn't pay for one with many
+            limit = Math.min(limit, MAX_GLOBAL_MEMORY / Math.max(1, this.session.getGeyser().getSessionManager().size()));
+        }
+        if (this.memoryUsage > limit) {
+            evictDistantChunks(limit * 9 / 10);
+            if (this.memoryUsage > limit) {
+                if (!this.overLimit) {
+                    this.overLimit = true;
+                    this.session.getGeyser().getLogger().debug("Chunk cache of " + this.session.bedrockUsername() + " uses "
+                        + (this.memoryUsage >> 20) + "MB, but all of its chunks are in view; going over the limit of " + (limit >> 20) + "MB");
+                }
+            } else {
+                this.overLimit = false;
+            }
+        }
+    }
+
+    /**
+     * Evicts the chunks furthest away from the player until this cache uses no more than the given amount of memory.
+     * Only chunks outside the client's view are evicted: the server won't send the others again, so collision and
+     * block updates would treat them as air.
+     *
+     * @param target the memory usage to evict down to, in bytes
+     */
+    private void evictDistantChunks(long target) {
+        int serverRenderDistance = this.session.getServerRenderDistance();
+        if (serverRenderDistance == -1) {
+            return;
+        }
+        // The radius the Bedrock client loads chunks in, which covers everything the server keeps loaded for us
+        long viewRadius = ChunkUtils.squareToCircle(serverRenderDistance);
+        long viewRadiusSquared = viewRadius * viewRadius;
+
+        Vector3f position = this.session.getPlayerEntity().getPosition();
+        int playerChunkX = position.getFloorX() >> 4;
+        int playerChunkZ = position.getFloorZ() >> 4;
+
+        LongArrayList positions = new LongArrayList();
+        for (LongIterator it = this.chunks.keySet().iterator(); it.hasNext(); ) {
+            long chunkPosition = it.nextLong();
+            if (distanceSquared(chunkPosition, playerChunkX, playerChunkZ) > viewRadiusSquared) {
+                positions.add(chunkPosition);
+            }
+        }
+        positions.sort((a, b) -> Long.compare(distanceSquared(b, playerChunkX, playerChunkZ), distanceSquared(a, playerChunkX, playerChunkZ)));
+
+        for (int i = 0; i < positions.size(); i++) {
+            if (this.memoryUsage <= target) {
+                break;
+            }
+            GeyserChunk evicted = this.chunks.remove(positions.getLong(i));
+            this.lastChunk = null;
+            addMemoryUsage(-evicted.memoryUsage());
+        }
+    }
+
+    private static long distanceSquared(long chunkPosition, int chunkX, int chunkZ) {
+        long dx = (int) (chunkPosition >> 32) - chunkX;
+        long dz = (int) chunkPosition - chunkZ;
+        return dx * dx + dz * dz;
+    }
+
+    /**
+     * Also used by {@link SubChunkCache} for the sub-chunks it keeps encoded, so they count towards the same limits.
+     */
+    void addMemoryUsage(long bytes) {
+        this.memoryUsage += bytes;
+        GLOBAL_MEMORY_USAGE.addAndGet(bytes);
+    }
+
+    /**
+     * @return an estimate of the memory used by the chunk caches of all sessions, in bytes
+     */
+    public static long getGlobalMemoryUsage() {
+        return GLOBAL_MEMORY_USAGE.get();
     }
 
     /**
@@ -65,7 +191,15 @@ public class ChunkCache {
      */
     private GeyserChunk getChunk(int chunkX, int chunkZ) {
         long chunkPosition = MathUtils.chunkPositionToLong(chunkX, chunkZ);
-        return chunks.getOrDefault(chunkPosition, null);
+        if (lastChunk != null && lastChunkPosition == chunkPosition) {
+            return lastChunk;
+        }
+        GeyserChunk chunk = chunks.getOrDefault(chunkPosition, null);
+        if (chunk != null) {
+            lastChunkPosition = chunkPosition;
+            lastChunk = chunk;
+        }
+        return chunk;
     }
 
     public void updateBlock(int x, int y, int z, int block) {
@@ -78,27 +212,24 @@ public class ChunkCache {
             return;
         }
 
-        if (y < minY || ((y - minY) >> 4) > chunk.sections().length - 1) {
+        if (y < minY || ((y - minY) >> 4) > chunk.sectionCount() - 1) {
             // Y likely goes above or below the height limit of this world
             return;
         }
 
         boolean previouslyEmpty = false;
         try {
-            DataPalette palette = chunk.sections()[(y - minY) >> 4];
-            if (palette == null) {
+            int sectionIndex = (y - minY) >> 4;
+            if (chunk.isSectionEmpty(sectionIndex)) {
                 previouslyEmpty = true;
-                if (block != Block.JAVA_AIR_ID) {
-                    // A previously empty chunk, which is no longer empty as a block has been added to it
-                    palette = DataPalette.createForBlockState(Block.JAVA_AIR_ID, BlockRegistries.BLOCK_STATES.get().size());
-                    chunk.sections()[(y - minY) >> 4] = palette;
-                } else {
+                if (block == Block.JAVA_AIR_ID) {
                     // Nothing to update
                     return;
                 }
+                // A previously empty chunk, which is no longer empty as a block has been added to it
             }
 
-            palette.set(x & 0xF, y & 0xF, z & 0xF, block);
+            addMemoryUsage(chunk.set(sectionIndex, x & 0xF, y & 0xF, z & 0xF, block));
         } catch (Throwable e) {
             GeyserImpl.getInstance().getLogger().error("Failed to update block in chunk cache! ", e);
             GeyserImpl.getInstance().getLogger().error("Info: newChunk=%s, block=%s, pos=%s,%s,%s".formatted(previouslyEmpty, block, x, y, z));
@@ -115,17 +246,84 @@ public class ChunkCache {
             return Block.JAVA_AIR_ID;
         }
 
-        if (y < minY || ((y - minY) >> 4) > column.sections().length - 1) {
+        if (y < minY || ((y - minY) >> 4) > column.sectionCount() - 1) {
             // Y likely goes above or below the height limit of this world
             return Block.JAVA_AIR_ID;
         }
 
-        DataPalette chunk = column.sections()[(y - minY) >> 4];
-        if (chunk != null) {
-            return chunk.get(x & 0xF, y & 0xF, z & 0xF);
+        return column.get((y - minY) >> 4, x & 0xF, y & 0xF, z & 0xF);
+    }
+
+    /**
+     * Reads all remaining blocks of the iterator in one pass, storing them at their iteration index.
+     * Chunk columns are only looked up again once the iterator leaves the previous column.
+     *
+     * @param iter the positions to read
+     * @param blocks the array to write to, at least {@link BlockPositionIterator#getMaxIterations()} long
+     */
+    public void getBlocksAt(BlockPositionIterator iter, int[] blocks) {
+        if (!cache) {
+            for (; iter.hasNext(); iter.next()) {
+                blocks[iter.getIteration()] = Block.JAVA_AIR_ID;
+            }
+            return;
         }
 
-        return Block.JAVA_AIR_ID;
+        int columnX = Integer.MIN_VALUE;
+        int columnZ = Integer.MIN_VALUE;
+        GeyserChunk column = null;
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int y = iter.getY();
+            int z = iter.getZ();
+            if ((x >> 4) != columnX || (z >> 4) != columnZ) {
+                columnX = x >> 4;
+                columnZ = z >> 4;
+                column = this.getChunk(columnX, columnZ);
+            }
+
+            int sectionIndex = (y - minY) >> 4;
+            if (column == null || y < minY || sectionIndex > column.sectionCount() - 1) {
+                blocks[iter.getIteration()] = Block.JAVA_AIR_ID;
+                continue;
+            }
+            blocks[iter.getIteration()] = column.get(sectionIndex, x & 0xF, y & 0xF, z & 0xF);
+        }
+    }
+
+    /**
+     * Reads every block of a chunk section at once.
+     *
+     * @param sectionY the Y coordinate of the section, in sections
+     * @param blocks at least {@link BlockStorage#SIZE} long; the blocks are written to it in YZX order
+     * @return false if this chunk is not cached
+     */
+    public boolean getSection(int chunkX, int sectionY, int chunkZ, int[] blocks) {
+        if (!cache) {
+            return false;
+        }
+
+        GeyserChunk chunk = this.getChunk(chunkX, chunkZ);
+        if (chunk == null) {
+            return false;
+        }
+
+        int sectionIndex = sectionY - (minY >> 4);
+        if (sectionIndex < 0 || sectionIndex >= chunk.sectionCount() || chunk.isSectionEmpty(sectionIndex)) {
+            Arrays.fill(blocks, 0, BlockStorage.SIZE, Block.JAVA_AIR_ID);
+            return true;
+        }
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            blocks[yzx] = chunk.get(sectionIndex, yzx & 0xF, (yzx >> 8) & 0xF, (yzx >> 4) & 0xF);
+        }
+        return true;
+    }
+
+    /**
+     * @return whether chunks are stored here; they are not on platforms that have their own chunk cache
+     */
+    public boolean isCaching() {
+        return cache;
     }
 
     public void removeChunk(int chunkX, int chunkZ) {
@@ -134,7 +332,11 @@ public class ChunkCache {
         }
 
         long chunkPosition = MathUtils.chunkPositionToLong(chunkX, chunkZ);
-        chunks.remove(chunkPosition);
+        GeyserChunk removed = chunks.remove(chunkPosition);
+        this.lastChunk = null;
+        if (removed != null) {
+            addMemoryUsage(-removed.memoryUsage());
+        }
     }
 
     /**
@@ -148,6 +350,8 @@ public class ChunkCache {
         }
 
         chunks.clear();
+        lastChunk = null;
+        addMemoryUsage(-this.memoryUsage);
     }
 
     public int getChunkMinY() {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.geysermc.geyser.item.hashing.DataComponentHashers;
+import org.geysermc.geyser.item.hashing.MinecraftHashEncoder;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentType;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers the component hashes of recently hashed item stacks, so clicking around in a container doesn't hash every
+ * component of heavily enchanted or lore-rich items on every click.
+ * <p>
+ * Component hashes depend on the session's registries, so the cache is cleared when those change. Must only be used on
+ * the session's event loop.
+ */
+public class ComponentHashCache {
+    private static final int MAX_ENTRIES = 256;
+
+    private final GeyserSession session;
+    private final LruCache<DataComponents, HashedComponents> hashes = new LruCache<>(MAX_ENTRIES);
+    private MinecraftHashEncoder encoder;
+
+    public ComponentHashCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Hashes the components of an item stack patch, or returns the hashes of an equal patch that was hashed before.
+     */
+    public HashedComponents hash(DataComponents patch) {
+        HashedComponents hashed = hashes.get(patch);
+        if (hashed == null) {
+            hashed = DataComponentHashers.hashComponents(session, patch);
+            // Item stacks modify their patch in place, so the key must be a copy
+            hashes.put(patch.clone(), hashed);
+        }
+        return hashed;
+    }
+
+    /**
+     * @return the encoder used to hash components for this session. Streams into a shared buffer, so it is not thread-safe.
+     */
+    public MinecraftHashEncoder encoder() {
+        if (encoder == null) {
+            encoder = new MinecraftHashEncoder(session.getRegistryCache());
+        }
+        return encoder;
+    }
+
+    /**
+     * Forgets all hashes, e.g. because the registries they were made with changed.
+     */
+    public void clear() {
+        hashes.clear();
+    }
+
+    /**
+     * @param additions the hash of every added component
+     * @param removals the components removed from the item's defaults
+     */
+    public record HashedComponents(Map<DataComponentType<?>, Integer> additions, Set<DataComponentType<?>> removals) {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.registry.type.ItemMappings;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.item.ItemTranslator;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+
+/**
+ * Remembers the Bedrock translation of recently translated items, so servers that resend the same container contents
+ * over and over again (e.g. shop menus refreshing every tick) don't cause their lore, enchantments and NBT to be
+ * translated every time.
+ * <p>
+ * Translations are stored without a net ID. Besides the item itself, a translation depends on some session state;
+ * if any of that changes, the cache is cleared. Must only be used on the session's event loop.
+ */
+public class ItemTranslationCache {
+    private static final int MAX_ENTRIES = 256;
+
+    private final GeyserSession session;
+    private final LruCache<Key, ItemData> translations = new LruCache<>(MAX_ENTRIES);
+
+    private @Nullable ItemMappings itemMappings;
+    private boolean advancedTooltips;
+    private float attackDamage;
+    private double attackSpeed;
+
+    public ItemTranslationCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * @return whether the translation of this item can be taken from the cache
+     */
+    public static boolean canCache(int javaId) {
+        // Compasses register their lodestone tracker while translating
+        return javaId != Items.COMPASS.javaId();
+    }
+
+    /**
+     * Translates an item, or returns the translation of an equal item that was translated before.
+     *
+     * @return the translated item, without a net ID
+     */
+    public ItemData translate(int javaId, int amount, @Nullable DataComponents components) {
+        checkState();
+
+        Key key = new Key(javaId, amount, components);
+        ItemData translated = translations.get(key);
+        if (translated == null) {
+            translated = ItemTranslator.translateToBedrock(session, javaId, amount, components).build();
+            // The components of an item stack can be changed later on, so don't let that change our key
+            translations.put(new Key(javaId, amount, components == null ? null : components.clone()), translated);
+        }
+        return translated;
+    }
+
+    /**
+     * Forgets all translations, e.g. because the registries or tags they were made with changed.
+     */
+    public void clear() {
+        translations.clear();
+    }
+
+    private void checkState() {
+        ItemMappings itemMappings = session.getItemMappings();
+        boolean advancedTooltips = session.isAdvancedTooltips();
+        float attackDamage = session.getPlayerEntity().attributeOrDefault(GeyserAttributeType.ATTACK_DAMAGE);
+        double attackSpeed = session.getAttackSpeed();
+        if (itemMappings != this.itemMappings || advancedTooltips != this.advancedTooltips
+            || attackDamage != this.attackDamage || attackSpeed != this.attackSpeed) {
+            translations.clear();
+            this.itemMappings = itemMappings;
+            this.advancedTooltips = advancedTooltips;
+            this.attackDamage = attackDamage;
+            this.attackSpeed = attackSpeed;
+        }
+    }
+
+    private record Key(int javaId, int amount, @Nullable DataComponents components) {
+    }
+}
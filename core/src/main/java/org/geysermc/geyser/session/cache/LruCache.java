@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A small map that forgets the least recently used entry once it grows past its maximum size. Not thread-safe.
+ */
+final class LruCache<K, V> {
+    private final int maxEntries;
+    private final Object2ObjectLinkedOpenHashMap<K, V> entries = new Object2ObjectLinkedOpenHashMap<>();
+
+    LruCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the value for this key, which is now the most recently used one, or null if there is none
+     */
+    @Nullable V get(K key) {
+        return entries.getAndMoveToLast(key);
+    }
+
+    /**
+     * @return the least recently used value if it had to be forgotten to make room, or null
+     */
+    @Nullable V put(K key, V value) {
+        entries.put(key, value);
+        if (entries.size() > maxEntries) {
+            return entries.removeFirst();
+        }
+        return null;
+    }
+
+    @Nullable V remove(K key) {
+        return entries.remove(key);
+    }
+
+    Iterable<V> values() {
+        return entries.values();
+    }
+
+    void clear() {
+        entries.clear();
+    }
+}
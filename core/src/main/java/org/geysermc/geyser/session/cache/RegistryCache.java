@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.session.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
@@ -64,10 +66,13 @@ import org.geysermc.mcprotocollib.protocol.packet.configuration.clientbound.Clie
 import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Stores any information sent via Java registries. May not contain all data in a given registry - we'll strip what's
@@ -79,20 +84,32 @@ public final class RegistryCache implements JavaRegistryProvider {
     private static final Map<JavaRegistryKey<?>, Map<Key, NbtMap>> DEFAULTS;
     @VisibleForTesting
     public static final Map<JavaRegistryKey<?>, RegistryReader<?>> READERS = new HashMap<>();
+    /**
+     * Registries whose readers depend on the session (locale, item mappings, tags...), and can therefore not be shared.
+     */
+    private static final Set<JavaRegistryKey<?>> SESSION_BOUND = new HashSet<>();
+    /**
+     * Translated registry contents, keyed by the raw registry data the server sent. Most servers send identical
+     * registries to every player, so sessions can share the same immutable contents instead of each reading their own.
+     * Weak values - a snapshot is dropped once no session uses it anymore.
+     */
+    private static final Cache<SnapshotKey, List<? extends RegistryEntryData<?>>> SHARED_SNAPSHOTS = CacheBuilder.newBuilder()
+        .weakValues()
+        .build();
 
     static {
         register(JavaRegistries.CHAT_TYPE, ChatDecoration::readChatType);
         register(JavaRegistries.DIMENSION_TYPE, JavaDimension::read);
         register(JavaRegistries.BIOME, BiomeTranslator::loadServerBiome);
-        register(JavaRegistries.ENCHANTMENT, Enchantment::read);
+        registerSessionBound(JavaRegistries.ENCHANTMENT, Enchantment::read);
         register(JavaRegistries.BANNER_PATTERN, context -> BannerPattern.getByJavaIdentifier(context.id()));
-        register(JavaRegistries.INSTRUMENT, GeyserInstrument::read);
-        register(JavaRegistries.JUKEBOX_SONG, JukeboxSong::read);
+        registerSessionBound(JavaRegistries.INSTRUMENT, GeyserInstrument::read);
+        registerSessionBound(JavaRegistries.JUKEBOX_SONG, JukeboxSong::read);
         register(JavaRegistries.PAINTING_VARIANT, context -> PaintingType.getByName(context.id()));
-        register(JavaRegistries.TRIM_MATERIAL, TrimRecipe::readTrimMaterial);
-        register(JavaRegistries.TRIM_PATTERN, TrimRecipe::readTrimPattern);
+        registerSessionBound(JavaRegistries.TRIM_MATERIAL, TrimRecipe::readTrimMaterial);
+        registerSessionBound(JavaRegistries.TRIM_PATTERN, TrimRecipe::readTrimPattern);
         register(JavaRegistries.DAMAGE_TYPE, RegistryReader.UNIT);
-        register(JavaRegistries.DIALOG, Dialog::readDialog);
+        registerSessionBound(JavaRegistries.DIALOG, Dialog::readDialog);
 
         register(JavaRegistries.CAT_VARIANT, VariantHolder.reader(CatEntity.BuiltInVariant.class, CatEntity.BuiltInVariant.BLACK));
         register(JavaRegistries.FROG_VARIANT, VariantHolder.reader(FrogEntity.BuiltInVariant.class, FrogEntity.BuiltInVariant.TEMPERATE));
@@ -143,6 +160,8 @@ public final class RegistryCache implements JavaRegistryProvider {
             if (reader != null) {
                 try {
                     readRegistry(session, registryKey, registries.get(registryKey), reader, packet.getEntries());
+                    session.getItemTranslationCache().clear();
+                    session.getComponentHashCache().clear();
                 } catch (Exception exception) {
                     GeyserImpl.getInstance().getLogger().error("Failed parsing registry entries for " + registryKey + "!", exception);
                 }
@@ -162,8 +181,27 @@ public final class RegistryCache implements JavaRegistryProvider {
         return (JavaRegistry<T>) registries.get(registryKey);
     }
 
+    @SuppressWarnings("unchecked")
     private static <T> void readRegistry(GeyserSession session, JavaRegistryKey<T> registryKey, SimpleJavaRegistry<T> registry,
                                          RegistryReader<T> reader, List<RegistryEntry> entries) {
+        if (SESSION_BOUND.contains(registryKey)) {
+            registry.reset(readEntries(session, registryKey, reader, entries));
+            return;
+        }
+
+        SnapshotKey key = SnapshotKey.of(registryKey, entries);
+        List<RegistryEntryData<T>> snapshot = (List<RegistryEntryData<T>>) SHARED_SNAPSHOTS.getIfPresent(key);
+        if (snapshot == null) {
+            List<RegistryEntryData<T>> read = List.copyOf(readEntries(session, registryKey, reader, entries));
+            // Another session may have read the same contents in the meantime; keep whichever got in first
+            List<? extends RegistryEntryData<?>> existing = SHARED_SNAPSHOTS.asMap().putIfAbsent(key, read);
+            snapshot = existing == null ? read : (List<RegistryEntryData<T>>) existing;
+        }
+        registry.reset(snapshot);
+    }
+
+    private static <T> List<RegistryEntryData<T>> readEntries(GeyserSession session, JavaRegistryKey<T> registryKey,
+                                                             RegistryReader<T> reader, List<RegistryEntry> entries) {
         Map<Key, NbtMap> localRegistry = null;
 
         // Clear each local cache every time a new registry entry is given to us
@@ -195,7 +233,7 @@ public final class RegistryCache implements JavaRegistryProvider {
             }
             builder.add(i, new RegistryEntryData<>(i, entry.getId(), cacheEntry));
         }
-        registry.reset(builder);
+        return builder;
     }
 
     /**
@@ -210,10 +248,56 @@ public final class RegistryCache implements JavaRegistryProvider {
         READERS.put(registryKey, reader);
     }
 
+    /**
+     * Same as {@link #register(JavaRegistryKey, RegistryReader)}, but for readers that use
+     * {@link RegistryEntryContext#session()}. The contents of these registries are read for every session separately.
+     */
+    private static <T> void registerSessionBound(JavaRegistryKey<T> registryKey, RegistryReader<T> reader) {
+        register(registryKey, reader);
+        SESSION_BOUND.add(registryKey);
+    }
+
     public static void init() {
         // no-op
     }
 
+    /**
+     * The raw contents of a registry data packet. Null data means the entry uses our default values, which are the same for every session.
+     */
+    private record SnapshotKey(JavaRegistryKey<?> registry, Key[] ids, NbtMap[] data, int hashCode) {
+
+        static SnapshotKey of(JavaRegistryKey<?> registry, List<RegistryEntry> entries) {
+            Key[] ids = new Key[entries.size()];
+            NbtMap[] data = new NbtMap[entries.size()];
+            for (int i = 0; i < ids.length; i++) {
+                RegistryEntry entry = entries.get(i);
+                ids[i] = entry.getId();
+                data[i] = entry.getData();
+            }
+            int hashCode = 31 * (31 * registry.hashCode() + Arrays.hashCode(ids)) + Arrays.hashCode(data);
+            return new SnapshotKey(registry, ids, data, hashCode);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof SnapshotKey other && this.hashCode == other.hashCode && this.registry == other.registry
+                && Arrays.equals(this.ids, other.ids) && Arrays.equals(this.data, other.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "SnapshotKey{registry=" + registry + ", entries=" + ids.length + "}";
+        }
+    }
+
     @FunctionalInterface
     public interface RegistryReader<T> {
 
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.nbt.NBTOutputStream;
+import org.cloudburstmc.nbt.NbtMap;
+import org.cloudburstmc.nbt.NbtUtils;
+import org.cloudburstmc.protocol.bedrock.data.HeightMapDataType;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkData;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkRequestResult;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket;
+import org.geysermc.geyser.entity.type.ItemFrameEntity;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.level.block.type.BlockState;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
+import org.geysermc.geyser.util.MathUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers the {@link SubChunkRequestPacket}s of clients when chunks are sent in sub-chunk request mode. In this mode,
+ * the chunk packet only contains the biomes of a column, and each sub-chunk is translated from the Java blocks in the
+ * {@link ChunkCache} once the client asks for it. The last few encoded sub-chunks are kept, as the client tends to
+ * request the same ones again while moving around; they count towards the memory limits of the chunk cache.
+ * <p>
+ * Must only be used on the session's event loop.
+ */
+public class SubChunkCache {
+    /**
+     * Whether chunks should be sent to the client in sub-chunk request mode.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("Geyser.SubChunkRequests");
+    private static final int MAX_ENCODED_SECTIONS = 64;
+    /**
+     * How many columns worth of sub-chunks one request may ask for. The client requests the columns around it a few at a time.
+     */
+    private static final int MAX_REQUESTED_COLUMNS = 9;
+    /**
+     * Stands in for a sub-chunk without any blocks or block entities.
+     */
+    private static final byte[] ALL_AIR = new byte[0];
+
+    private final GeyserSession session;
+    /**
+     * The Bedrock tags of the Java block entities in every loaded column. Block entities that only exist on Bedrock are
+     * created when their sub-chunk is translated.
+     */
+    private final Long2ObjectMap<Map<Vector3i, NbtMap>> blockEntities = new Long2ObjectOpenHashMap<>();
+    private final LruCache<Vector3i, byte[]> encodedSections = new LruCache<>(MAX_ENCODED_SECTIONS);
+    private final int[] javaBlocks = new int[BlockStorage.SIZE];
+
+    public SubChunkCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * @return whether chunks should be sent in sub-chunk request mode. Sub-chunks are translated from the chunk cache,
+     * so this requires one.
+     */
+    public boolean isActive() {
+        return ENABLED && session.getChunkCache().isCaching() && !session.getErosionHandler().isActive();
+    }
+
+    /**
+     * Registers a column the Java server sent. Its blocks must have been added to the {@link ChunkCache}.
+     *
+     * @param blockEntities the Bedrock tags of the Java block entities in this column
+     */
+    public void addColumn(int chunkX, int chunkZ, List<NbtMap> blockEntities) {
+        Map<Vector3i, NbtMap> columnBlockEntities = new Object2ObjectOpenHashMap<>(blockEntities.size());
+        for (NbtMap blockEntity : blockEntities) {
+            columnBlockEntities.put(Vector3i.from(blockEntity.getInt("x"), blockEntity.getInt("y"), blockEntity.getInt("z")), blockEntity);
+        }
+        this.blockEntities.put(MathUtils.chunkPositionToLong(chunkX, chunkZ), columnBlockEntities);
+        invalidateColumn(chunkX, chunkZ);
+    }
+
+    public void removeColumn(int chunkX, int chunkZ) {
+        if (blockEntities.remove(MathUtils.chunkPositionToLong(chunkX, chunkZ)) != null) {
+            invalidateColumn(chunkX, chunkZ);
+        }
+    }
+
+    /**
+     * Called after a block has been updated in the chunk cache, so the sub-chunk is translated again when it's requested.
+     */
+    public void updateBlock(int x, int y, int z, int javaId) {
+        Map<Vector3i, NbtMap> columnBlockEntities = blockEntities.get(MathUtils.chunkPositionToLong(x >> 4, z >> 4));
+        if (columnBlockEntities == null) {
+            return;
+        }
+
+        if (!BlockState.of(javaId).block().hasBlockEntity()) {
+            columnBlockEntities.remove(Vector3i.from(x, y, z));
+        }
+        invalidate(x >> 4, y >> 4, z >> 4);
+        if ((y & 0xF) == 0xF && !session.getBlockMappings().getExtendedCollisionBoxes().isEmpty()) {
+            // Extended collision blocks reach into the section above
+            invalidate(x >> 4, (y >> 4) + 1, z >> 4);
+        }
+    }
+
+    /**
+     * Called when the Bedrock tag of a block entity changes.
+     */
+    public void updateBlockEntity(Vector3i position, NbtMap blockEntity) {
+        Map<Vector3i, NbtMap> columnBlockEntities = blockEntities.get(MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4));
+        if (columnBlockEntities == null) {
+            return;
+        }
+
+        columnBlockEntities.put(position, blockEntity);
+        invalidate(position.getX() >> 4, position.getY() >> 4, position.getZ() >> 4);
+    }
+
+    /**
+     * Answers all sub-chunks the client requested at once.
+     */
+    public void onSubChunkRequest(SubChunkRequestPacket packet) {
+        BedrockDimension bedrockDimension = session.getBedrockDimension();
+        int sectionCount = bedrockDimension.height() >> 4;
+        if (packet.getPositionOffsets().size() > MAX_REQUESTED_COLUMNS * sectionCount) {
+            session.getGeyser().getLogger().debug("Ignoring sub-chunk request of " + session.bedrockUsername() + " for "
+                + packet.getPositionOffsets().size() + " sub-chunks");
+            return;
+        }
+
+        int dimensionOffset = bedrockDimension.minY() >> 4;
+        boolean validDimension = packet.getDimension() == bedrockDimension.bedrockId();
+        Vector3i center = packet.getSubChunkPosition();
+
+        SubChunkPacket response = new SubChunkPacket();
+        response.setDimension(packet.getDimension());
+        response.setCenterPosition(center);
+        response.setCacheEnabled(false);
+
+        List<Vector3i> sentSections = new ObjectArrayList<>(packet.getPositionOffsets().size());
+        for (Vector3i offset : packet.getPositionOffsets()) {
+            SubChunkData data = new SubChunkData();
+            data.setPosition(offset);
+            data.setHeightMapType(HeightMapDataType.NO_DATA);
+            data.setHeightMapData(Unpooled.EMPTY_BUFFER);
+            data.setData(Unpooled.EMPTY_BUFFER);
+            response.getSubChunks().add(data);
+
+            if (!validDimension) {
+                data.setResult(SubChunkRequestResult.INVALID_DIMENSION);
+                continue;
+            }
+
+            Vector3i position = center.add(offset);
+            int index = position.getY() - dimensionOffset;
+            if (index < 0 || index >= sectionCount) {
+                data.setResult(SubChunkRequestResult.INDEX_OUT_OF_BOUNDS);
+                continue;
+            }
+
+            byte[] encoded = encodedSections.get(position);
+            if (encoded == null) {
+                encoded = encodeSection(position);
+                if (encoded == null) {
+                    data.setResult(SubChunkRequestResult.CHUNK_NOT_FOUND);
+                    continue;
+                }
+                addMemoryUsage(encoded.length);
+                byte[] evicted = encodedSections.put(position, encoded);
+                if (evicted != null) {
+                    addMemoryUsage(-evicted.length);
+                }
+            }
+
+            if (encoded == ALL_AIR) {
+                data.setResult(SubChunkRequestResult.SUCCESS_ALL_AIR);
+            } else {
+                data.setData(Unpooled.wrappedBuffer(encoded));
+                data.setResult(SubChunkRequestResult.SUCCESS);
+            }
+            sentSections.add(position);
+        }
+        session.sendUpstreamPacket(response);
+
+        if (!sentSections.isEmpty()) {
+            // Item frames are blocks on Bedrock, and would otherwise be overwritten by the sub-chunk
+            for (Map.Entry<Vector3i, ItemFrameEntity> entry : session.getItemFrameCache().entrySet()) {
+                Vector3i framePosition = entry.getKey();
+                Vector3i sectionPosition = Vector3i.from(framePosition.getX() >> 4, framePosition.getY() >> 4, framePosition.getZ() >> 4);
+                if (sentSections.contains(sectionPosition)) {
+                    entry.getValue().updateBlock(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Translates a sub-chunk from the chunk cache, the same way a whole chunk is translated.
+     *
+     * @param sectionPosition the position of the sub-chunk, in sections
+     * @return the network encoding of the sub-chunk and its block entities, {@link #ALL_AIR}, or null if the column
+     * isn't loaded
+     */
+    private byte @Nullable [] encodeSection(Vector3i sectionPosition) {
+        Map<Vector3i, NbtMap> columnBlockEntities = blockEntities.get(MathUtils.chunkPositionToLong(sectionPosition.getX(), sectionPosition.getZ()));
+        ChunkCache chunkCache = session.getChunkCache();
+        if (columnBlockEntities == null || !chunkCache.getSection(sectionPosition.getX(), sectionPosition.getY(), sectionPosition.getZ(), javaBlocks)) {
+            return null;
+        }
+
+        Map<Vector3i, NbtMap> sectionBlockEntities = new Object2ObjectOpenHashMap<>();
+        for (Map.Entry<Vector3i, NbtMap> entry : columnBlockEntities.entrySet()) {
+            if ((entry.getKey().getY() >> 4) == sectionPosition.getY()) {
+                sectionBlockEntities.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        BlockMappings blockMappings = session.getBlockMappings();
+        Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes = blockMappings.getExtendedCollisionBoxes();
+        int baseX = sectionPosition.getX() << 4;
+        int baseY = sectionPosition.getY() << 4;
+        int baseZ = sectionPosition.getZ() << 4;
+
+        GeyserChunkSection section = new GeyserChunkSection(blockMappings.getBedrockAir().getRuntimeId(), sectionPosition.getY());
+        boolean empty = true;
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            int x = yzx & 0xF;
+            int y = (yzx >> 8) & 0xF;
+            int z = (yzx >> 4) & 0xF;
+            int javaId = javaBlocks[yzx];
+            if (javaId == Block.JAVA_AIR_ID) {
+                if (!extendedCollisionBoxes.isEmpty()) {
+                    // The collision box of an extended collision block below is placed into the air above it
+                    int below = y == 0 ? chunkCache.getBlockAt(baseX + x, baseY - 1, baseZ + z) : javaBlocks[yzx - 0x100];
+                    GeyserBedrockBlock collision = extendedCollisionBoxes.get(below);
+                    if (collision != null) {
+                        section.setFullBlock(x, y, z, 0, collision.getRuntimeId());
+                        empty = false;
+                    }
+                }
+                continue;
+            }
+
+            empty = false;
+            long stateInfo = blockMappings.getStateInfo(javaId);
+            section.setFullBlock(x, y, z, 0, BlockMappings.bedrockRuntimeId(stateInfo));
+            if ((stateInfo & BlockMappings.WATERLOGGED) != 0) {
+                section.setFullBlock(x, y, z, 1, blockMappings.getBedrockWater().getRuntimeId());
+            }
+            if ((stateInfo & BlockMappings.BEDROCK_BLOCK_ENTITY) != 0) {
+                BlockState state = BlockState.of(javaId);
+                Vector3i position = Vector3i.from(baseX + x, baseY + y, baseZ + z);
+                sectionBlockEntities.put(position, ((BedrockChunkWantsBlockEntityTag) state.block()).createTag(session, position, state));
+            }
+        }
+
+        if (empty && sectionBlockEntities.isEmpty()) {
+            return ALL_AIR;
+        }
+
+        for (Vector3i position : sectionBlockEntities.keySet()) {
+            SkullCache.Skull skull = session.getSkullCache().getSkulls().get(position);
+            if (skull != null && skull.getBlockDefinition() != null) {
+                section.setFullBlock(position.getX() & 0xF, position.getY() & 0xF, position.getZ() & 0xF, 0, skull.getBlockDefinition().getRuntimeId());
+            }
+        }
+
+        ByteBuf buffer = Unpooled.buffer(section.estimateNetworkSize() + sectionBlockEntities.size() * 64);
+        try {
+            section.writeToNetwork(buffer);
+            NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(buffer));
+            for (NbtMap blockEntity : sectionBlockEntities.values()) {
+                nbtStream.writeTag(blockEntity);
+            }
+            byte[] encoded = new byte[buffer.readableBytes()];
+            buffer.readBytes(encoded);
+            return encoded;
+        } catch (IOException e) {
+            session.getGeyser().getLogger().error("IO error while encoding sub-chunk", e);
+            return null;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private void invalidateColumn(int chunkX, int chunkZ) {
+        BedrockDimension bedrockDimension = session.getBedrockDimension();
+        int minSectionY = bedrockDimension.minY() >> 4;
+        int maxSectionY = minSectionY + (bedrockDimension.height() >> 4);
+        for (int sectionY = minSectionY; sectionY < maxSectionY; sectionY++) {
+            invalidate(chunkX, sectionY, chunkZ);
+        }
+    }
+
+    private void invalidate(int sectionX, int sectionY, int sectionZ) {
+        byte[] removed = encodedSections.remove(Vector3i.from(sectionX, sectionY, sectionZ));
+        if (removed != null) {
+            addMemoryUsage(-removed.length);
+        }
+    }
+
+    private void addMemoryUsage(long bytes) {
+        session.getChunkCache().addMemoryUsage(bytes);
+    }
+
+    /**
+     * Must be called before {@link ChunkCache#clear()}, which gives back the memory of the sub-chunks encoded here as well.
+     */
+    public void clear() {
+        blockEntities.clear();
+        long usage = 0;
+        for (byte[] encoded : encodedSections.values()) {
+            usage += encoded.length;
+        }
+        encodedSections.clear();
+        addMemoryUsage(-usage);
+    }
+}
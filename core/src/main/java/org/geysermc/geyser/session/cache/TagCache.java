@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.session.cache;
 
-import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -36,6 +35,7 @@ import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.registry.JavaRegistryKey;
 import org.geysermc.geyser.session.cache.tags.GeyserHolderSet;
 import org.geysermc.geyser.session.cache.tags.Tag;
+import org.geysermc.geyser.session.cache.tags.TagTable;
 import org.geysermc.geyser.util.MinecraftKey;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.HolderSet;
 import org.geysermc.mcprotocollib.protocol.packet.common.clientbound.ClientboundUpdateTagsPacket;
@@ -60,10 +60,12 @@ import java.util.Map;
  *     <li>{@link org.geysermc.geyser.inventory.GeyserItemStack#is(GeyserSession, HolderSet)}</li>
  *     <li>{@link GeyserHolderSet#contains(GeyserSession, Object)}</li>
  * </ul>
+ *
+ * <p>The tags themselves are stored in a {@link TagTable}, which is shared with every session that received the same tags.</p>
  */
 public final class TagCache {
     private final GeyserSession session;
-    private final Map<Tag<?>, int[]> tags = new Object2ObjectOpenHashMap<>();
+    private TagTable tags = TagTable.EMPTY;
 
     public TagCache(GeyserSession session) {
         this.session = session;
@@ -73,7 +75,8 @@ public final class TagCache {
         Map<Key, Map<Key, int[]>> allTags = packet.getTags();
         GeyserLogger logger = session.getGeyser().getLogger();
 
-        this.tags.clear();
+        Map<Tag<?>, int[]> tags = new Object2ObjectOpenHashMap<>();
+        session.getItemTranslationCache().clear();
 
         for (Key registryKey : allTags.keySet()) {
             JavaRegistryKey<?> registry = JavaRegistries.fromKey(registryKey);
@@ -101,30 +104,39 @@ public final class TagCache {
                 }
             }
 
-            loadTags(registryTags, registry, registry == JavaRegistries.ITEM);
+            loadTags(tags, registryTags, registry, registry == JavaRegistries.ITEM);
         }
+
+        this.tags = TagTable.intern(tags);
     }
 
-    private void loadTags(Map<Key, int[]> packetTags, JavaRegistryKey<?> registry, boolean sort) {
+    private static void loadTags(Map<Tag<?>, int[]> tags, Map<Key, int[]> packetTags, JavaRegistryKey<?> registry, boolean sort) {
         for (Map.Entry<Key, int[]> tag : packetTags.entrySet()) {
             int[] value = tag.getValue();
             if (sort) {
                 // Used in RecipeBookAddTranslator
                 Arrays.sort(value);
             }
-            this.tags.put(new Tag<>(registry, tag.getKey()), value);
+            tags.put(new Tag<>(registry, tag.getKey()), value);
         }
     }
 
+    /**
+     * @return the table holding all tags of this session. Sessions that received the same tags share the same table.
+     */
+    public TagTable getTable() {
+        return this.tags;
+    }
+
     /**
      * Should only be used when the network ID of an element is already known. If not, prefer using the {@link TagCache#is(Tag, Object)} shorthand method.
      */
     public boolean is(@NonNull Tag<?> tag, int id) {
-        return contains(getRaw(tag), id);
+        return this.tags.contains(tag, id);
     }
 
     public <T> boolean is(@NonNull Tag<T> tag, @NonNull T object) {
-        return contains(getRaw(tag), tag.registry().networkId(session, object));
+        return this.tags.contains(tag, tag.registry().networkId(session, object));
     }
 
     /**
@@ -136,6 +148,9 @@ public final class TagCache {
         if (object == null) {
             return false;
         }
+        if (holderSet.getTag() != null && holderSet.getHolders() == null && holderSet.getInline() == null) {
+            return this.tags.contains(holderSet.getTag(), holderSet.getRegistry().networkId(session, object));
+        }
         return contains(holderSet.resolveRaw(this), holderSet.getRegistry().networkId(session, object));
     }
 
@@ -146,19 +161,24 @@ public final class TagCache {
         if (holderSet == null) {
             return false;
         }
+        if (holderSet.getHolders() == null && holderSet.getLocation() != null) {
+            return this.tags.contains(new Tag<>(registry, stripTagPrefix(holderSet.getLocation())), id);
+        }
 
-        int[] entries = holderSet.resolve(key -> {
-            // This should never happen, since a key in a HolderSet is always a tag
-            // We check for it anyway
-            if (key.value().startsWith("#")) {
-                key = Key.key(key.namespace(), key.value().substring(1));
-            }
-            return getRaw(new Tag<>(registry, key));
-        });
+        int[] entries = holderSet.resolve(key -> getRaw(new Tag<>(registry, stripTagPrefix(key))));
 
         return contains(entries, id);
     }
 
+    private static Key stripTagPrefix(Key key) {
+        // This should never happen, since a key in a HolderSet is always a tag
+        // We check for it anyway
+        if (key.value().startsWith("#")) {
+            return Key.key(key.namespace(), key.value().substring(1));
+        }
+        return key;
+    }
+
     public <T> List<T> get(@NonNull Tag<T> tag) {
         return mapRawArray(session, getRaw(tag), tag.registry());
     }
@@ -167,7 +187,7 @@ public final class TagCache {
      * @return the network IDs in the given tag. This can be an empty array.
      */
     public int[] getRaw(@NonNull Tag<?> tag) {
-        return this.tags.getOrDefault(tag, IntArrays.EMPTY_ARRAY);
+        return this.tags.get(tag);
     }
 
     /**
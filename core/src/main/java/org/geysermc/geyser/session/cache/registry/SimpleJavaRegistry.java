@@ -25,17 +25,17 @@
 
 package org.geysermc.geyser.session.cache.registry;
 
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
-
 import java.util.List;
 
 public class SimpleJavaRegistry<T> implements JavaRegistry<T> {
-    protected final ObjectArrayList<RegistryEntryData<T>> entries = new ObjectArrayList<>();
+    protected List<RegistryEntryData<T>> entries = List.of();
 
+    /**
+     * Replaces the contents of this registry. Immutable lists are kept as-is, so the same contents can be
+     * shared between multiple registries without copying.
+     */
     public void reset(List<RegistryEntryData<T>> entries) {
-        this.entries.clear();
-        this.entries.addAll(entries);
-        this.entries.trim();
+        this.entries = List.copyOf(entries);
     }
 
     @Override
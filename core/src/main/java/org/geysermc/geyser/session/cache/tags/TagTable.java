@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache.tags;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable set of tags as sent in one ClientboundUpdateTagsPacket. Every tag keeps its network IDs in the order the
+ * server sent them, and additionally as a bitset so that membership checks are a single array access.
+ * <p>
+ * Players on the same server almost always receive identical tags, so tables are interned through {@link #intern(Map)}
+ * and shared between every session that received the same tags.
+ */
+public final class TagTable {
+    private static final Interner<TagTable> INTERNER = Interners.newWeakInterner();
+
+    public static final TagTable EMPTY = new TagTable(Map.of());
+
+    private final Map<Tag<?>, Entry> entries;
+    private final int hashCode;
+
+    private TagTable(Map<Tag<?>, int[]> tags) {
+        Map<Tag<?>, Entry> entries = new Object2ObjectOpenHashMap<>(tags.size());
+        int hashCode = 0;
+        for (Map.Entry<Tag<?>, int[]> tag : tags.entrySet()) {
+            int[] ids = tag.getValue();
+            entries.put(tag.getKey(), new Entry(ids, toBitSet(ids)));
+            hashCode += tag.getKey().hashCode() ^ Arrays.hashCode(ids);
+        }
+        this.entries = entries;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * @param tags the network IDs of every tag. The arrays must not be modified afterwards.
+     * @return a table with these tags, shared with every other session that loaded the same tags
+     */
+    public static TagTable intern(Map<Tag<?>, int[]> tags) {
+        return INTERNER.intern(new TagTable(tags));
+    }
+
+    /**
+     * @return the network IDs in the given tag. This can be an empty array.
+     */
+    public int[] get(Tag<?> tag) {
+        Entry entry = this.entries.get(tag);
+        return entry == null ? IntArrays.EMPTY_ARRAY : entry.ids;
+    }
+
+    public boolean contains(Tag<?> tag, int id) {
+        Entry entry = this.entries.get(tag);
+        if (entry == null || id < 0) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < entry.bits.length && (entry.bits[word] & (1L << id)) != 0;
+    }
+
+    private static long[] toBitSet(int[] ids) {
+        int max = -1;
+        for (int id : ids) {
+            max = Math.max(max, id);
+        }
+        long[] bits = new long[max < 0 ? 0 : (max >> 6) + 1];
+        for (int id : ids) {
+            if (id >= 0) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TagTable other) || this.hashCode != other.hashCode || this.entries.size() != other.entries.size()) {
+            return false;
+        }
+        for (Map.Entry<Tag<?>, Entry> entry : this.entries.entrySet()) {
+            Entry otherEntry = other.entries.get(entry.getKey());
+            if (otherEntry == null || !Arrays.equals(entry.getValue().ids, otherEntry.ids)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    private record Entry(int[] ids, long[] bits) {
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores skins and capes in the image cache folder after they have been converted to Bedrock image data, so a player
+ * seen before does not need their texture decoded and converted again. The files are read straight into a byte array.
+ * <p>
+ * Also keeps an index of when each file in the image cache folder was last used, so expired files can be found without
+ * listing the folder. The index is saved next to the images every few minutes and on shutdown.
+ */
+final class ImageDataCache {
+    private static final String INDEX_FILE = "index.dat";
+    private static final int INDEX_VERSION = 1;
+    private static final int DATA_MAGIC = 0x47494d47; // GIMG
+
+    /**
+     * File name to when it was last used, in milliseconds.
+     */
+    private static volatile Map<String, Long> index;
+    /**
+     * Whether the index has changed since it was last saved.
+     */
+    private static volatile boolean dirty;
+
+    private ImageDataCache() {
+    }
+
+    static boolean isEnabled() {
+        return GeyserImpl.getInstance().config().advanced().cacheImages() > 0;
+    }
+
+    static Path folder() {
+        return GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images");
+    }
+
+    static String pngFileName(String imageUrl) {
+        return UUID.nameUUIDFromBytes(imageUrl.getBytes()) + ".png";
+    }
+
+    private static String dataFileName(String imageUrl, boolean isCape) {
+        return UUID.nameUUIDFromBytes(imageUrl.getBytes()) + (isCape ? ".cape" : ".skin");
+    }
+
+    /**
+     * @return the converted image data of this texture, or null if it has not been cached
+     */
+    static byte @Nullable [] read(String imageUrl, boolean isCape) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        String fileName = dataFileName(imageUrl, isCape);
+        Path file = folder().resolve(fileName);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2);
+            readFully(channel, header);
+            header.flip();
+            int length = header.getInt(4);
+            if (header.getInt(0) != DATA_MAGIC || length <= 0 || length != channel.size() - header.capacity()) {
+                // Partially written or from another version
+                Files.deleteIfExists(file);
+                index().remove(fileName);
+                dirty = true;
+                return null;
+            }
+
+            byte[] data = new byte[length];
+            readFully(channel, ByteBuffer.wrap(data));
+            touch(fileName);
+            return data;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().debug("Failed to read cached image data for " + imageUrl + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves converted image data on the skin executor.
+     */
+    static void write(String imageUrl, boolean isCape, byte[] data) {
+        if (!isEnabled() || data.length == 0) {
+            return;
+        }
+
+        SkinProvider.getExecutorService().execute(() -> {
+            String fileName = dataFileName(imageUrl, isCape);
+            Path folder = folder();
+            try {
+                Files.createDirectories(folder);
+                Path temp = folder.resolve(fileName + ".tmp");
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2).putInt(DATA_MAGIC).putInt(data.length).flip();
+                    writeFully(channel, header);
+                    writeFully(channel, ByteBuffer.wrap(data));
+                }
+                Files.move(temp, folder.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                touch(fileName);
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().debug("Failed to write cached image data for " + imageUrl + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Marks a file in the image cache folder as used just now.
+     */
+    static void touch(String fileName) {
+        index().put(fileName, System.currentTimeMillis());
+        dirty = true;
+    }
+
+    /**
+     * Deletes all files in the image cache folder that have not been used in the given time, and saves the index.
+     * Files the index doesn't know about - e.g. because the server was killed before the index was saved - are
+     * added to it by their modification time first, so they still expire.
+     *
+     * @return how many files were deleted
+     */
+    static int removeExpired(long expireTime) {
+        Path folder = folder();
+        Map<String, Long> index = index();
+        indexFolder(index, folder);
+
+        long oldest = System.currentTimeMillis() - expireTime;
+        int count = 0;
+        Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Long> entry = it.next();
+            if (entry.getValue() < oldest) {
+                try {
+                    Files.deleteIfExists(folder.resolve(entry.getKey()));
+                    count++;
+                } catch (IOException e) {
+                    GeyserImpl.getInstance().getLogger().debug("Failed to delete cached image " + entry.getKey() + ": " + e.getMessage());
+                }
+                it.remove();
+            }
+        }
+        saveIndex();
+        return count;
+    }
+
+    /**
+     * Writes the index to disk, if it has changed since it was last saved.
+     */
+    static void saveIndexIfChanged() {
+        if (dirty) {
+            saveIndex();
+        }
+    }
+
+    /**
+     * Writes the index to disk, if it has been loaded.
+     */
+    static void saveIndex() {
+        Map<String, Long> index = ImageDataCache.index;
+        if (index == null) {
+            return;
+        }
+        // Reset before copying, so changes made while saving are saved next time
+        dirty = false;
+
+        Path folder = folder();
+        try {
+            Files.createDirectories(folder);
+            Path temp = folder.resolve(INDEX_FILE + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeInt(INDEX_VERSION);
+                // Copy, as other threads may be using the index
+                Map<String, Long> entries = Map.copyOf(index);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Long> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+            }
+            Files.move(temp, folder.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().debug("Failed to save the image cache index: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> index() {
+        Map<String, Long> index = ImageDataCache.index;
+        if (index == null) {
+            synchronized (ImageDataCache.class) {
+                index = ImageDataCache.index;
+                if (index == null) {
+                    ImageDataCache.index = index = loadIndex();
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, Long> loadIndex() {
+        Map<String, Long> index = new ConcurrentHashMap<>();
+        Path folder = folder();
+        Path indexFile = folder.resolve(INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(indexFile))) {
+                if (in.readInt() == INDEX_VERSION) {
+                    int size = in.readInt();
+                    for (int i = 0; i < size; i++) {
+                        index.put(in.readUTF(), in.readLong());
+                    }
+                    return index;
+                }
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().debug("Failed to read the image cache index, rebuilding it: " + e.getMessage());
+                index.clear();
+            }
+        }
+
+        // No usable index yet - this only happens once, after which the index is kept up to date
+        indexFolder(index, folder);
+        return index;
+    }
+
+    /**
+     * Adds every file in the image cache folder that is missing from the index, using its modification time.
+     */
+    private static void indexFolder(Map<String, Long> index, Path folder) {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.startsWith(INDEX_FILE) && !index.containsKey(fileName)) {
+                    index.put(fileName, Files.getLastModifiedTime(file).toMillis());
+                    dirty = true;
+                }
+            }
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().debug("Failed to index the image cache folder: " + e.getMessage());
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
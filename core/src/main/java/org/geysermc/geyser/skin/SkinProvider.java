@@ -140,6 +140,7 @@ public class SkinProvider {
     }
 
     public static void shutdown() {
+        ImageDataCache.saveIndex();
         if (EXECUTOR_SERVICE != null) {
             EXECUTOR_SERVICE.shutdown();
             EXECUTOR_SERVICE = null;
@@ -150,25 +151,15 @@ public class SkinProvider {
         // Schedule Daily Image Expiry if we are caching them
         if (geyser.config().advanced().cacheImages() > 0) {
             geyser.getScheduledThread().scheduleAtFixedRate(() -> {
-                File cacheFolder = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images").toFile();
-                if (!cacheFolder.exists()) {
-                    return;
-                }
-
-                int count = 0;
                 final long expireTime = ((long) GeyserImpl.getInstance().config().advanced().cacheImages()) * ((long)1000 * 60 * 60 * 24);
-                for (File imageFile : Objects.requireNonNull(cacheFolder.listFiles())) {
-                    if (imageFile.lastModified() < System.currentTimeMillis() - expireTime) {
-                        //noinspection ResultOfMethodCallIgnored
-                        imageFile.delete();
-                        count++;
-                    }
-                }
+                int count = ImageDataCache.removeExpired(expireTime);
 
                 if (count > 0) {
                     GeyserImpl.getInstance().getLogger().debug(String.format("Removed %d cached image files as they have expired", count));
                 }
             }, 10, 1, TimeUnit.DAYS);
+            // Keep the index on disk close to up to date, so a crash doesn't leave files in the folder it doesn't know about
+            geyser.getScheduledThread().scheduleAtFixedRate(ImageDataCache::saveIndexIfChanged, 5, 5, TimeUnit.MINUTES);
         }
     }
 
@@ -411,11 +402,12 @@ public class SkinProvider {
         BufferedImage image = null;
 
         // First see if we have a cached file. We also update the modification stamp so we know when the file was last used
-        File imageFile = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images").resolve(UUID.nameUUIDFromBytes(imageUrl.getBytes()) + ".png").toFile();
+        String imageFileName = ImageDataCache.pngFileName(imageUrl);
+        File imageFile = ImageDataCache.folder().resolve(imageFileName).toFile();
         if (imageFile.exists()) {
             try {
                 GeyserImpl.getInstance().getLogger().debug("Reading cached image from file " + imageFile.getPath() + " for " + imageUrl);
-                imageFile.setLastModified(System.currentTimeMillis());
+                ImageDataCache.touch(imageFileName);
                 image = ImageIO.read(imageFile);
             } catch (IOException ignored) {}
         }
@@ -430,6 +422,7 @@ public class SkinProvider {
                 imageFile.getParentFile().mkdirs();
                 try {
                     ImageIO.write(image, "png", imageFile);
+                    ImageDataCache.touch(imageFileName);
                     GeyserImpl.getInstance().getLogger().debug("Writing cached skin to file " + imageFile.getPath() + " for " + imageUrl);
                 } catch (IOException e) {
                     GeyserImpl.getInstance().getLogger().error("Failed to write cached skin to file " + imageFile.getPath() + " for " + imageUrl);
@@ -471,9 +464,16 @@ public class SkinProvider {
     }
 
     private static byte[] requestImageData(String imageUrl, boolean isCape) throws Exception {
+        // Skip decoding and converting the image if we converted it before
+        byte[] data = ImageDataCache.read(imageUrl, isCape);
+        if (data != null) {
+            return data;
+        }
+
         BufferedImage image = requestImage(imageUrl, isCape);
-        byte[] data = bufferedImageToImageData(image);
+        data = bufferedImageToImageData(image);
         image.flush();
+        ImageDataCache.write(imageUrl, isCape, data);
         return data;
     }
 
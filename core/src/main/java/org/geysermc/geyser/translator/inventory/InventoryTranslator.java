@@ -252,6 +252,8 @@ public abstract class InventoryTranslator<Type extends Inventory> {
     }
 
     public final void translateRequests(GeyserSession session, Type inventory, List<ItemStackRequest> requests) {
+        // The client changes its own view of the container with these requests, so it can't be diffed against anymore
+        inventory.setSentContents(null);
         boolean refresh = false;
         ItemStackResponsePacket responsePacket = new ItemStackResponsePacket();
         for (ItemStackRequest request : requests) {
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.protocol;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how often each packet type is translated, how long translation takes, and how long packets waited on the
+ * tick event loop before being translated.
+ * <p>
+ * One instance holds the totals of all sessions, and every session has its own. Recording is toggled at runtime with
+ * {@link #setEnabled(boolean)} (or at startup with the {@code Geyser.PacketMetrics} system property); while disabled,
+ * the only cost is reading a volatile flag.
+ */
+public final class PacketMetrics {
+    private static final PacketMetrics GLOBAL = new PacketMetrics();
+    private static volatile boolean enabled = Boolean.getBoolean("Geyser.PacketMetrics");
+
+    private final Map<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        PacketMetrics.enabled = enabled;
+    }
+
+    /**
+     * @return the metrics of all sessions combined
+     */
+    public static PacketMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * @return the current time to pass as {@code queuedAt} to {@link #record(PacketMetrics, Class, long, long, long)},
+     * or 0 if metrics are disabled
+     */
+    public static long startTime() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records one translated packet into the global metrics and the session's metrics.
+     *
+     * @param session the metrics of the session the packet belongs to
+     * @param packetClass the type of the packet
+     * @param queuedAt when the packet was handed to the tick event loop as returned by {@link #startTime()},
+     * or 0 if it was translated immediately or metrics were disabled at the time
+     * @param startedAt when translation started, from {@link System#nanoTime()}
+     * @param finishedAt when translation finished, from {@link System#nanoTime()}
+     */
+    public static void record(PacketMetrics session, Class<?> packetClass, long queuedAt, long startedAt, long finishedAt) {
+        long translationNanos = finishedAt - startedAt;
+        long queueNanos = queuedAt == 0 ? -1 : startedAt - queuedAt;
+        GLOBAL.entry(packetClass).record(translationNanos, queueNanos);
+        session.entry(packetClass).record(translationNanos, queueNanos);
+    }
+
+    private Entry entry(Class<?> packetClass) {
+        Entry entry = entries.get(packetClass);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(packetClass, Entry::new);
+        }
+        return entry;
+    }
+
+    /**
+     * @return a snapshot of every packet type seen so far, sorted by total translation time, most expensive first
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            snapshots.add(entry.snapshot());
+        }
+        snapshots.sort(Comparator.comparingLong(Snapshot::totalNanos).reversed());
+        return snapshots;
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    public static void resetGlobal() {
+        GLOBAL.reset();
+    }
+
+    /**
+     * @param packetName the simple class name of the packet
+     * @param count how many packets were translated
+     * @param totalNanos the time spent translating them
+     * @param p50Nanos median translation time
+     * @param p99Nanos 99th percentile translation time
+     * @param maxNanos the slowest translation
+     * @param queuedCount how many of the packets had to wait on the tick event loop
+     * @param meanQueueNanos how long those packets waited on average
+     */
+    public record Snapshot(String packetName, long count, long totalNanos, long p50Nanos, long p99Nanos, long maxNanos,
+                           long queuedCount, long meanQueueNanos) {
+
+        public long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+
+    private static final class Entry {
+        private final String packetName;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder queuedCount = new LongAdder();
+        private final LongAdder queueNanos = new LongAdder();
+
+        Entry(Class<?> packetClass) {
+            this.packetName = packetClass.getSimpleName();
+        }
+
+        void record(long nanos, long queueNanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            histogram.record(nanos);
+            if (queueNanos >= 0) {
+                queuedCount.increment();
+                this.queueNanos.add(queueNanos);
+            }
+        }
+
+        Snapshot snapshot() {
+            long queued = queuedCount.sum();
+            return new Snapshot(packetName, count.sum(), totalNanos.sum(), histogram.percentile(0.5), histogram.percentile(0.99),
+                maxNanos.get(), queued, queued == 0 ? 0 : queueNanos.sum() / queued);
+        }
+    }
+
+    /**
+     * A histogram with logarithmic buckets, each power of two split into {@link #SUB_BUCKETS} linear steps.
+     * Recorded values are reported with an error of at most 25%, at a fixed size no matter how many values are recorded.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 2;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        void record(long value) {
+            counts.incrementAndGet(bucket(Math.max(0, value)));
+        }
+
+        static int bucket(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> exponent) & (SUB_BUCKETS - 1);
+            return (exponent + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        /**
+         * @return the largest value that falls into the given bucket
+         */
+        static long upperBound(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS - 1;
+            long subBucket = SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1));
+            return ((subBucket + 1) << exponent) - 1;
+        }
+
+        long percentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= target) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(BUCKETS - 1);
+        }
+    }
+}
@@ -56,12 +56,17 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.player.Serv
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.player.ServerboundPlayerCommandPacket;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.player.ServerboundSwingPacket;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Translator(packet = PlayerAuthInputPacket.class)
 public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<PlayerAuthInputPacket> {
+    /**
+     * Bits for the inputs that need to know whether another input is still to come in the same packet.
+     */
+    private static final int START_SPRINTING_BIT = 1;
+    private static final int STOP_SPRINTING_BIT = 1 << 1;
+    private static final int STOP_GLIDING_BIT = 1 << 2;
 
     @Override
     public void translate(GeyserSession session, PlayerAuthInputPacket packet) {
@@ -78,9 +83,18 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
         Set<PlayerAuthInputData> inputData = packet.getInputData();
         // These inputs are sent in order, so if e.g. START_GLIDING and STOP_GLIDING are both present,
         // it's important to make sure we send the last known status instead of both to the Java server.
-        Set<PlayerAuthInputData> leftOverInputData = new HashSet<>(packet.getInputData());
+        int leftOverInputs = 0;
+        if (inputData.contains(PlayerAuthInputData.START_SPRINTING)) {
+            leftOverInputs |= START_SPRINTING_BIT;
+        }
+        if (inputData.contains(PlayerAuthInputData.STOP_SPRINTING)) {
+            leftOverInputs |= STOP_SPRINTING_BIT;
+        }
+        if (inputData.contains(PlayerAuthInputData.STOP_GLIDING)) {
+            leftOverInputs |= STOP_GLIDING_BIT;
+        }
         for (PlayerAuthInputData input : inputData) {
-            leftOverInputData.remove(input);
+            leftOverInputs &= ~inputBit(input);
             switch (input) {
                 case PERFORM_ITEM_INTERACTION -> processItemUseTransaction(session, packet.getItemUseTransaction());
                 case PERFORM_ITEM_STACK_REQUEST -> session.getPlayerInventoryHolder().translateRequests(List.of(packet.getItemStackRequest()));
@@ -89,7 +103,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                 case START_CRAWLING -> entity.setFlag(EntityFlag.CRAWLING, true);
                 case STOP_CRAWLING -> entity.setFlag(EntityFlag.CRAWLING, false);
                 case START_SPRINTING -> {
-                    if (!leftOverInputData.contains(PlayerAuthInputData.STOP_SPRINTING)) {
+                    if ((leftOverInputs & STOP_SPRINTING_BIT) == 0) {
                         if (!session.isSprinting()) {
                             sprintPacket = new ServerboundPlayerCommandPacket(entity.javaId(), PlayerState.START_SPRINTING);
                             session.setSprinting(true);
@@ -98,7 +112,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                 }
                 case STOP_SPRINTING -> {
                     // Don't send sprinting update when we weren't sprinting
-                    if (!leftOverInputData.contains(PlayerAuthInputData.START_SPRINTING) && session.isSprinting()) {
+                    if ((leftOverInputs & START_SPRINTING_BIT) == 0 && session.isSprinting()) {
                         sprintPacket = new ServerboundPlayerCommandPacket(entity.javaId(), PlayerState.STOP_SPRINTING);
                         session.setSprinting(false);
                     }
@@ -134,7 +148,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                     // Bedrock can send both start_glide and stop_glide in the same packet.
                     // We only want to start gliding if the client has not stopped gliding in the same tick.
                     // last replicated on 1.21.70 by "walking" and jumping while in water
-                    if (!leftOverInputData.contains(PlayerAuthInputData.STOP_GLIDING)) {
+                    if ((leftOverInputs & STOP_GLIDING_BIT) == 0) {
                         if (entity.canStartGliding()) {
                             // On Java you can't start gliding while flying
                             if (session.isFlying()) {
@@ -220,6 +234,15 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
         }
     }
 
+    private static int inputBit(PlayerAuthInputData input) {
+        return switch (input) {
+            case START_SPRINTING -> START_SPRINTING_BIT;
+            case STOP_SPRINTING -> STOP_SPRINTING_BIT;
+            case STOP_GLIDING -> STOP_GLIDING_BIT;
+            default -> 0;
+        };
+    }
+
     private static void processItemUseTransaction(GeyserSession session, ItemUseTransaction transaction) {
         if (transaction.getActionType() == 2) {
             session.setLastBlockPlaced(null);
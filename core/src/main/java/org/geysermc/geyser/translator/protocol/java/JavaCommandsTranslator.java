@@ -26,6 +26,8 @@
 package org.geysermc.geyser.translator.protocol.java;
 
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.Hash;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
@@ -57,6 +59,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.entity.attribute.AttributeT
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.ClientboundCommandsPacket;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 @SuppressWarnings("removal") // We know. This is our doing.
@@ -73,6 +76,15 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     private static final String[] VALID_COLORS;
     private static final String[] VALID_SCOREBOARD_SLOTS;
 
+    /**
+     * Translated command trees, shared between sessions. Players with the same permissions usually receive the exact
+     * same command tree, so the parameter trees only need to be built once.
+     */
+    private static final Cache<CommandTreeKey, TranslatedCommands> TRANSLATED_COMMANDS = CacheBuilder.newBuilder()
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .maximumSize(128)
+            .build();
+
     private static final Hash.Strategy<BedrockCommandInfo> PARAM_STRATEGY = new Hash.Strategy<>() {
         @Override
         public int hashCode(BedrockCommandInfo o) {
@@ -133,51 +145,20 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
             return;
         }
 
-        CommandRegistry registry = session.getGeyser().commandRegistry();
-        CommandNode[] nodes = packet.getNodes();
-        List<CommandData> commandData = new ArrayList<>();
-        IntSet commandNodes = new IntOpenHashSet();
-        Set<String> knownAliases = new HashSet<>();
-        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
-        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
-
-        // Get the first node, it should be a root node
-        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
-
-        List<String> knownCommands = new ArrayList<>();
-        List<String> restrictedCommands = new ArrayList<>();
-        // Loop through the root nodes to get all commands
-        for (int nodeIndex : rootNode.getChildIndices()) {
-            CommandNode node = nodes[nodeIndex];
-
-            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
-            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
-
-            // Get and update the commandArgs list with the found arguments
-            if (node.getChildIndices().length >= 1) {
-                for (int childIndex : node.getChildIndices()) {
-                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
-                }
-            }
-
-            // Get and parse all params
-            CommandOverloadData[] params = getParams(session, nodes[nodeIndex], nodes);
-
-            // Insert the alias name into the command list
-            String name = node.getName().toLowerCase(Locale.ROOT);
-            String description = registry.description(name, session.locale());
-            BedrockCommandInfo info = new BedrockCommandInfo(name, description, params);
-            commands.computeIfAbsent(info, $ -> new HashSet<>()).add(name);
-
-            // Add the command to the command lists
-            knownCommands.add(name);
-            if (node.isAllowsRestricted()) { // Name is a bit confusing - this is what we want
-                restrictedCommands.add(name);
-            }
+        CommandTreeKey key = CommandTreeKey.of(session, packet);
+        TranslatedCommands translated = TRANSLATED_COMMANDS.getIfPresent(key);
+        if (translated == null) {
+            translated = translateCommands(session, packet);
+            TRANSLATED_COMMANDS.put(key, translated);
         }
 
-        session.setKnownCommands(knownCommands);
-        session.setRestrictedCommands(restrictedCommands);
+        session.setKnownCommands(translated.knownCommands());
+        session.setRestrictedCommands(translated.restrictedCommands());
+
+        // Copy, since event listeners may remove commands
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(translated.commands(), PARAM_STRATEGY);
+        Set<String> knownAliases = new HashSet<>(translated.knownAliases());
+        List<CommandData> commandData = new ArrayList<>();
 
         var eventBus = session.getGeyser().eventBus();
 
@@ -239,6 +220,55 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         session.sendUpstreamPacket(availableCommandsPacket);
     }
 
+    /**
+     * Walks the Java command tree and builds the Bedrock parameter data of every command.
+     */
+    private static TranslatedCommands translateCommands(GeyserSession session, ClientboundCommandsPacket packet) {
+        CommandRegistry registry = session.getGeyser().commandRegistry();
+        CommandNode[] nodes = packet.getNodes();
+        IntSet commandNodes = new IntOpenHashSet();
+        Set<String> knownAliases = new HashSet<>();
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
+        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
+
+        // Get the first node, it should be a root node
+        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
+
+        List<String> knownCommands = new ArrayList<>();
+        List<String> restrictedCommands = new ArrayList<>();
+        // Loop through the root nodes to get all commands
+        for (int nodeIndex : rootNode.getChildIndices()) {
+            CommandNode node = nodes[nodeIndex];
+
+            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
+            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
+
+            // Get and update the commandArgs list with the found arguments
+            if (node.getChildIndices().length >= 1) {
+                for (int childIndex : node.getChildIndices()) {
+                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
+                }
+            }
+
+            // Get and parse all params
+            CommandOverloadData[] params = getParams(session, nodes[nodeIndex], nodes);
+
+            // Insert the alias name into the command list
+            String name = node.getName().toLowerCase(Locale.ROOT);
+            String description = registry.description(name, session.locale());
+            BedrockCommandInfo info = new BedrockCommandInfo(name, description, params);
+            commands.computeIfAbsent(info, $ -> new HashSet<>()).add(name);
+
+            // Add the command to the command lists
+            knownCommands.add(name);
+            if (node.isAllowsRestricted()) { // Name is a bit confusing - this is what we want
+                restrictedCommands.add(name);
+            }
+        }
+
+        return new TranslatedCommands(commands, List.copyOf(knownCommands), List.copyOf(restrictedCommands), Set.copyOf(knownAliases));
+    }
+
     /**
      * Build the command parameter array for the given command
      *
@@ -315,7 +345,7 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         };
     }
 
-    private CommandData createFakeHelpCommand() {
+    private static CommandData createFakeHelpCommand() {
         CommandEnumData aliases = new CommandEnumData("helpAliases", Map.of("help", EnumSet.of(CommandEnumConstraint.ALLOW_ALIASES)), false);
         return new CommandData("help", "", Set.of(CommandData.Flag.NOT_CHEAT), CommandPermission.ANY, aliases, Collections.emptyList(), new CommandOverloadData[0]);
     }
@@ -329,6 +359,98 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     {
     }
 
+    /**
+     * The session-independent result of translating a command tree. Never modified after creation.
+     */
+    private record TranslatedCommands(Map<BedrockCommandInfo, Set<String>> commands, List<String> knownCommands,
+                                      List<String> restrictedCommands, Set<String> knownAliases) {
+    }
+
+    /**
+     * Everything that affects the outcome of {@link #translateCommands(GeyserSession, ClientboundCommandsPacket)}: the
+     * structure of the command tree, the session locale (for command descriptions) and any session values that
+     * are used as suggestions.
+     */
+    private record CommandTreeKey(int firstNodeIndex, NodeShape[] nodes, String locale, List<Object> sessionValues, int hashCode) {
+
+        static CommandTreeKey of(GeyserSession session, ClientboundCommandsPacket packet) {
+            CommandNode[] nodes = packet.getNodes();
+            NodeShape[] shapes = new NodeShape[nodes.length];
+            boolean usesDimensions = false, usesTeams = false, usesEnchantments = false;
+            for (int i = 0; i < nodes.length; i++) {
+                CommandNode node = nodes[i];
+                Key resource = node.getProperties() instanceof ResourceProperties properties ? properties.getRegistryKey() : null;
+                shapes[i] = NodeShape.of(node, resource);
+
+                CommandParser parser = node.getParser();
+                if (parser == CommandParser.DIMENSION) {
+                    usesDimensions = true;
+                } else if (parser == CommandParser.TEAM) {
+                    usesTeams = true;
+                } else if (resource != null && resource.asString().equals("minecraft:enchantment")) {
+                    usesEnchantments = true;
+                }
+            }
+
+            List<Object> sessionValues = new ArrayList<>(3);
+            if (usesDimensions) {
+                String[] levels = session.getLevels();
+                sessionValues.add(levels == null ? List.of() : Arrays.asList(levels));
+            }
+            if (usesTeams) {
+                sessionValues.add(List.copyOf(session.getWorldCache().getScoreboard().getTeamNames().keySet()));
+            }
+            if (usesEnchantments) {
+                sessionValues.add(session.getRegistryCache().registry(JavaRegistries.ENCHANTMENT).keys());
+            }
+
+            String locale = session.locale();
+            int hashCode = packet.getFirstNodeIndex();
+            hashCode = 31 * hashCode + Arrays.hashCode(shapes);
+            hashCode = 31 * hashCode + locale.hashCode();
+            hashCode = 31 * hashCode + sessionValues.hashCode();
+            return new CommandTreeKey(packet.getFirstNodeIndex(), shapes, locale, sessionValues, hashCode);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            return o instanceof CommandTreeKey other && this.hashCode == other.hashCode && this.firstNodeIndex == other.firstNodeIndex
+                    && this.locale.equals(other.locale) && Arrays.equals(this.nodes, other.nodes) && this.sessionValues.equals(other.sessionValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The parts of a {@link CommandNode} that are used during translation.
+     */
+    private record NodeShape(String name, CommandParser parser, Key resource, boolean executable, boolean allowsRestricted,
+                             int redirectIndex, int[] childIndices) {
+
+        static NodeShape of(CommandNode node, Key resource) {
+            return new NodeShape(node.getName(), node.getParser(), resource, node.isExecutable(), node.isAllowsRestricted(),
+                    node.getRedirectIndex().orElse(-1), node.getChildIndices());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            return o instanceof NodeShape other && this.executable == other.executable && this.allowsRestricted == other.allowsRestricted
+                    && this.redirectIndex == other.redirectIndex && this.parser == other.parser && Objects.equals(this.name, other.name)
+                    && Objects.equals(this.resource, other.resource) && Arrays.equals(this.childIndices, other.childIndices);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(name, parser, resource, executable, allowsRestricted, redirectIndex);
+            return 31 * result + Arrays.hashCode(childIndices);
+        }
+    }
+
     /**
      * Stores command completions so we don't have to rebuild the same values multiple times.
      */
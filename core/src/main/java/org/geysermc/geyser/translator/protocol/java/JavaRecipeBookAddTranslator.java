@@ -25,6 +25,10 @@
 
 package org.geysermc.geyser.translator.protocol.java;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.Pair;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
@@ -42,18 +46,24 @@ import org.cloudburstmc.protocol.bedrock.data.inventory.descriptor.ItemDescripto
 import org.cloudburstmc.protocol.bedrock.data.inventory.descriptor.ItemTagDescriptor;
 import org.cloudburstmc.protocol.bedrock.packet.CraftingDataPacket;
 import org.cloudburstmc.protocol.bedrock.packet.UnlockedRecipesPacket;
+import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
+import org.geysermc.geyser.inventory.item.BedrockEnchantment;
 import org.geysermc.geyser.inventory.recipe.GeyserRecipe;
 import org.geysermc.geyser.inventory.recipe.GeyserShapedRecipe;
 import org.geysermc.geyser.inventory.recipe.GeyserShapelessRecipe;
 import org.geysermc.geyser.inventory.recipe.GeyserSmithingRecipe;
 import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.item.enchantment.Enchantment;
 import org.geysermc.geyser.item.type.BedrockRequiresTagItem;
 import org.geysermc.geyser.item.type.Item;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.ItemMapping;
+import org.geysermc.geyser.registry.type.ItemMappings;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
+import org.geysermc.geyser.session.cache.registry.RegistryEntryData;
 import org.geysermc.geyser.session.cache.tags.Tag;
+import org.geysermc.geyser.session.cache.tags.TagTable;
 import org.geysermc.geyser.translator.item.ItemTranslator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
@@ -83,17 +93,30 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Translator(packet = ClientboundRecipeBookAddPacket.class)
 public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRecipeBookAddPacket> {
 
+    /**
+     * Translated recipe displays, shared between sessions. Most servers send the same recipes to every player, so
+     * each session only has to assign its own network IDs and UUIDs.
+     */
+    private static final Cache<RecipeKey, TranslatedRecipe> TRANSLATED_RECIPES = CacheBuilder.newBuilder()
+        .expireAfterAccess(30, TimeUnit.MINUTES)
+        .maximumSize(8192)
+        .build();
+    private static final Interner<TranslationContext> CONTEXTS = Interners.newWeakInterner();
+
     @Override
     public void translate(GeyserSession session, ClientboundRecipeBookAddPacket packet) {
         int netId = session.getLastRecipeNetId().get();
         Int2ObjectMap<List<String>> javaToBedrockRecipeIds = session.getJavaToBedrockRecipeIds();
         Int2ObjectMap<GeyserRecipe> geyserRecipes = session.getCraftingRecipes();
         CraftingDataPacket craftingDataPacket = new CraftingDataPacket();
+        TranslationContext context = TranslationContext.of(session);
 
         UnlockedRecipesPacket recipesPacket = new UnlockedRecipesPacket();
         recipesPacket.setAction(packet.isReplace() ? UnlockedRecipesPacket.ActionType.INITIALLY_UNLOCKED : UnlockedRecipesPacket.ActionType.NEWLY_UNLOCKED);
@@ -105,13 +128,13 @@ public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRec
             switch (display.getType()) {
                 case CRAFTING_SHAPED -> {
                     ShapedCraftingRecipeDisplay shapedRecipe = (ShapedCraftingRecipeDisplay) display;
-                    var bedrockRecipes = combinations(session, display, shapedRecipe.ingredients());
+                    TranslatedRecipe bedrockRecipes = translateCached(context, display, () -> craftingRecipe(session, display, shapedRecipe.ingredients()));
                     if (bedrockRecipes == null) {
                         continue;
                     }
                     List<String> bedrockRecipeIds = new ArrayList<>();
-                    ItemData output = bedrockRecipes.right();
-                    List<List<ItemDescriptorWithCount>> left = bedrockRecipes.left();
+                    List<ItemData> output = Collections.singletonList(bedrockRecipes.output());
+                    List<List<ItemDescriptorWithCount>> left = bedrockRecipes.inputs();
                     GeyserRecipe geyserRecipe = new GeyserShapedRecipe(shapedRecipe);
                     for (int i = 0; i < left.size(); i++) {
                         List<ItemDescriptorWithCount> inputs = left.get(i);
@@ -119,7 +142,7 @@ public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRec
                         int recipeNetworkId = netId++;
                         craftingDataPacket.getCraftingData().add(ShapedRecipeData.shaped(recipeId,
                             shapedRecipe.width(), shapedRecipe.height(), inputs,
-                            Collections.singletonList(output), UUID.randomUUID(), "crafting_table", 0, recipeNetworkId, false, RecipeUnlockingRequirement.INVALID));
+                            output, UUID.randomUUID(), "crafting_table", 0, recipeNetworkId, false, RecipeUnlockingRequirement.INVALID));
                         recipesPacket.getUnlockedRecipes().add(recipeId);
                         bedrockRecipeIds.add(recipeId);
                         geyserRecipes.put(recipeNetworkId, geyserRecipe);
@@ -128,20 +151,20 @@ public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRec
                 }
                 case CRAFTING_SHAPELESS -> {
                     ShapelessCraftingRecipeDisplay shapelessRecipe = (ShapelessCraftingRecipeDisplay) display;
-                    var bedrockRecipes = combinations(session, display, shapelessRecipe.ingredients());
+                    TranslatedRecipe bedrockRecipes = translateCached(context, display, () -> craftingRecipe(session, display, shapelessRecipe.ingredients()));
                     if (bedrockRecipes == null) {
                         continue;
                     }
                     List<String> bedrockRecipeIds = new ArrayList<>();
-                    ItemData output = bedrockRecipes.right();
-                    List<List<ItemDescriptorWithCount>> left = bedrockRecipes.left();
+                    List<ItemData> output = Collections.singletonList(bedrockRecipes.output());
+                    List<List<ItemDescriptorWithCount>> left = bedrockRecipes.inputs();
                     GeyserRecipe geyserRecipe = new GeyserShapelessRecipe(shapelessRecipe);
                     for (int i = 0; i < left.size(); i++) {
                         List<ItemDescriptorWithCount> inputs = left.get(i);
                         String recipeId = contents.id() + "_" + i;
                         int recipeNetworkId = netId++;
                         craftingDataPacket.getCraftingData().add(ShapelessRecipeData.shapeless(recipeId,
-                            inputs, Collections.singletonList(output), UUID.randomUUID(), "crafting_table", 0, recipeNetworkId, RecipeUnlockingRequirement.INVALID));
+                            inputs, output, UUID.randomUUID(), "crafting_table", 0, recipeNetworkId, RecipeUnlockingRequirement.INVALID));
                         recipesPacket.getUnlockedRecipes().add(recipeId);
                         bedrockRecipeIds.add(recipeId);
                         geyserRecipes.put(recipeNetworkId, geyserRecipe);
@@ -154,33 +177,23 @@ public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRec
                         continue;
                     }
                     SmithingRecipeDisplay smithingRecipe = (SmithingRecipeDisplay) display;
-                    Pair<Item, ItemData> output = translateToOutput(session, smithingRecipe.result());
-                    if (output == null) {
-                        continue;
-                    }
-
-                    List<ItemDescriptorWithCount> bases = translateToInput(session, smithingRecipe.base());
-                    List<ItemDescriptorWithCount> templates = translateToInput(session, smithingRecipe.template());
-                    List<ItemDescriptorWithCount> additions = translateToInput(session, smithingRecipe.addition());
-
-                    if (bases == null || templates == null || additions == null) {
+                    TranslatedRecipe bedrockRecipes = translateCached(context, display, () -> smithingRecipe(session, smithingRecipe));
+                    if (bedrockRecipes == null) {
                         continue;
                     }
 
-                    int i = 0;
                     List<String> bedrockRecipeIds = new ArrayList<>();
-                    for (ItemDescriptorWithCount template : templates) {
-                        for (ItemDescriptorWithCount base : bases) {
-                            for (ItemDescriptorWithCount addition : additions) {
-                                String id = contents.id() + "_" + i++;
-                                // Note: vanilla inputs use aux value of Short.MAX_VALUE
-                                craftingDataPacket.getCraftingData().add(SmithingTransformRecipeData.of(id,
-                                        template, base, addition, output.right(), "smithing_table", netId++));
-
-                                recipesPacket.getUnlockedRecipes().add(id);
-                                bedrockRecipeIds.add(id);
-                            }
-                        }
+                    List<List<ItemDescriptorWithCount>> combinations = bedrockRecipes.inputs();
+                    for (int i = 0; i < combinations.size(); i++) {
+                        // Template, base and addition
+                        List<ItemDescriptorWithCount> inputs = combinations.get(i);
+                        String id = contents.id() + "_" + i;
+                        // Note: vanilla inputs use aux value of Short.MAX_VALUE
+                        craftingDataPacket.getCraftingData().add(SmithingTransformRecipeData.of(id,
+                                inputs.get(0), inputs.get(1), inputs.get(2), bedrockRecipes.output(), "smithing_table", netId++));
+
+                        recipesPacket.getUnlockedRecipes().add(id);
+                        bedrockRecipeIds.add(id);
                     }
                     javaToBedrockRecipeIds.put(contents.id(), bedrockRecipeIds);
                     session.getSmithingRecipes().add(new GeyserSmithingRecipe(smithingRecipe));
@@ -201,6 +214,56 @@ public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRec
         TAG_TO_ITEM_DESCRIPTOR_CACHE.remove();
     }
 
+    /**
+     * Looks up the translation of this recipe display, translating it if no session with the same
+     * {@link TranslationContext} has done so yet.
+     *
+     * @return the translated recipe, or null if this recipe cannot be shown on Bedrock
+     */
+    @Nullable
+    private TranslatedRecipe translateCached(TranslationContext context, RecipeDisplay display, Supplier<TranslatedRecipe> translator) {
+        RecipeKey key = new RecipeKey(display, context);
+        TranslatedRecipe translated = TRANSLATED_RECIPES.getIfPresent(key);
+        if (translated == null) {
+            translated = translator.get();
+            TRANSLATED_RECIPES.put(key, translated);
+        }
+        return translated == TranslatedRecipe.UNTRANSLATABLE ? null : translated;
+    }
+
+    private TranslatedRecipe craftingRecipe(GeyserSession session, RecipeDisplay display, List<SlotDisplay> ingredients) {
+        var bedrockRecipes = combinations(session, display, ingredients);
+        if (bedrockRecipes == null) {
+            return TranslatedRecipe.UNTRANSLATABLE;
+        }
+        return new TranslatedRecipe(bedrockRecipes.right(), bedrockRecipes.left());
+    }
+
+    private TranslatedRecipe smithingRecipe(GeyserSession session, SmithingRecipeDisplay smithingRecipe) {
+        Pair<Item, ItemData> output = translateToOutput(session, smithingRecipe.result());
+        if (output == null) {
+            return TranslatedRecipe.UNTRANSLATABLE;
+        }
+
+        List<ItemDescriptorWithCount> bases = translateToInput(session, smithingRecipe.base());
+        List<ItemDescriptorWithCount> templates = translateToInput(session, smithingRecipe.template());
+        List<ItemDescriptorWithCount> additions = translateToInput(session, smithingRecipe.addition());
+
+        if (bases == null || templates == null || additions == null) {
+            return TranslatedRecipe.UNTRANSLATABLE;
+        }
+
+        List<List<ItemDescriptorWithCount>> combinations = new ArrayList<>(templates.size() * bases.size() * additions.size());
+        for (ItemDescriptorWithCount template : templates) {
+            for (ItemDescriptorWithCount base : bases) {
+                for (ItemDescriptorWithCount addition : additions) {
+                    combinations.add(List.of(template, base, addition));
+                }
+            }
+        }
+        return new TranslatedRecipe(output.right(), List.copyOf(combinations));
+    }
+
     // Arrays are usually an issue in maps, but because it's referencing the tag array that is unchanged, it actually works out for us.
     private static final ThreadLocal<Map<int[], List<ItemDescriptorWithCount>>> TAG_TO_ITEM_DESCRIPTOR_CACHE = ThreadLocal.withInitial(Object2ObjectOpenHashMap::new);
 
@@ -413,6 +476,87 @@ public class JavaRecipeBookAddTranslator extends PacketTranslator<ClientboundRec
         return Pair.of(finalRecipes, output);
     }
 
+    /**
+     * Everything besides the display itself that item translation reads from a session. Contexts are interned, so a
+     * {@link RecipeKey} can compare them by identity.
+     *
+     * @param enchantments the enchantment registry is session-bound, so its relevant contents are compared instead
+     */
+    private record TranslationContext(ItemMappings mappings, int protocolVersion, TagTable tags, String locale, boolean advancedTooltips,
+                                      float attackDamage, double attackSpeed, List<EnchantmentInfo> enchantments) {
+
+        static TranslationContext of(GeyserSession session) {
+            List<EnchantmentInfo> enchantments = new ArrayList<>();
+            for (RegistryEntryData<Enchantment> entry : session.getRegistryCache().registry(JavaRegistries.ENCHANTMENT).entries()) {
+                Enchantment enchantment = entry.data();
+                enchantments.add(new EnchantmentInfo(entry.key(), enchantment.description(), enchantment.maxLevel(), enchantment.bedrockEnchantment()));
+            }
+            return CONTEXTS.intern(new TranslationContext(session.getItemMappings(), session.getUpstream().getProtocolVersion(),
+                session.getTagCache().getTable(), session.locale(), session.isAdvancedTooltips(),
+                session.getPlayerEntity().attributeOrDefault(GeyserAttributeType.ATTACK_DAMAGE), session.getAttackSpeed(),
+                List.copyOf(enchantments)));
+        }
+
+        // Item mappings and tag tables are shared objects, so they are compared by identity
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof TranslationContext other && this.mappings == other.mappings && this.tags == other.tags
+                && this.protocolVersion == other.protocolVersion && this.advancedTooltips == other.advancedTooltips
+                && Float.compare(this.attackDamage, other.attackDamage) == 0 && Double.compare(this.attackSpeed, other.attackSpeed) == 0
+                && this.locale.equals(other.locale) && this.enchantments.equals(other.enchantments);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(mappings);
+            result = 31 * result + protocolVersion;
+            result = 31 * result + System.identityHashCode(tags);
+            result = 31 * result + locale.hashCode();
+            result = 31 * result + Boolean.hashCode(advancedTooltips);
+            result = 31 * result + Float.hashCode(attackDamage);
+            result = 31 * result + Double.hashCode(attackSpeed);
+            return 31 * result + enchantments.hashCode();
+        }
+    }
+
+    /**
+     * The parts of an enchantment that show up in translated items.
+     */
+    private record EnchantmentInfo(Key key, String description, int maxLevel, @Nullable BedrockEnchantment bedrockEnchantment) {
+    }
+
+    private record RecipeKey(RecipeDisplay display, TranslationContext context) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof RecipeKey other && this.context == other.context && this.display.equals(other.display);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * display.hashCode() + System.identityHashCode(context);
+        }
+    }
+
+    /**
+     * A translated recipe display, without any session-specific network IDs or UUIDs.
+     *
+     * @param output the Bedrock output item
+     * @param inputs every Bedrock variant of this recipe
+     */
+    private record TranslatedRecipe(ItemData output, List<List<ItemDescriptorWithCount>> inputs) {
+        /**
+         * Marks recipes that cannot be shown on Bedrock, so we don't try to translate them again.
+         */
+        static final TranslatedRecipe UNTRANSLATABLE = new TranslatedRecipe(null, List.of());
+    }
+
     static class ItemDescriptorWithCountComparator implements Comparator<ItemDescriptorWithCount> {
 
         static ItemDescriptorWithCountComparator INSTANCE = new ItemDescriptorWithCountComparator();
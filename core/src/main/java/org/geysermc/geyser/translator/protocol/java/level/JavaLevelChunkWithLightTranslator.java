@@ -28,6 +28,7 @@ package org.geysermc.geyser.translator.protocol.java.level;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntImmutableList;
@@ -35,6 +36,8 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NBTOutputStream;
@@ -47,12 +50,17 @@ import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.ChunkSectionCache;
 import org.geysermc.geyser.level.chunk.GeyserChunkSection;
 import org.geysermc.geyser.level.chunk.bitarray.BitArray;
+import org.geysermc.geyser.level.chunk.bitarray.BitArrayTransposer;
 import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
 import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
 import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.session.ChunkTranslationPipeline;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.BlobCache;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.translator.level.BiomeTranslator;
 import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
@@ -86,309 +94,369 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
     @Override
     public void translate(GeyserSession session, ClientboundLevelChunkWithLightPacket packet) {
-        final boolean useExtendedCollisions = !session.getBlockMappings().getExtendedCollisionBoxes().isEmpty();
-
-        if (session.isSpawned()) {
-            ChunkUtils.updateChunkPosition(session, session.getPlayerEntity().getPosition().toInt());
+        ChunkContext context = new ChunkContext(session);
+        if (ChunkTranslationPipeline.isEnabled()) {
+            session.getChunkTranslationPipeline().submit(() -> translateSections(context, packet),
+                translated -> sendChunk(session, context, packet, translated));
+        } else {
+            sendChunk(session, context, packet, translateSections(context, packet));
         }
+    }
 
-        // Ensure that, if the player is using lower world heights, the position is not offset
-        int yOffset = session.getChunkCache().getChunkMinY();
-        int chunkSize = session.getChunkCache().getChunkHeightY();
+    /**
+     * Decodes the Java chunk sections and converts them to Bedrock. This only reads session state through the context,
+     * so it can run outside the session's event loop. Tags of Bedrock-only block entities may read the session, so they
+     * are created in {@link #sendChunk}. In sub-chunk request mode, only the Java sections are decoded.
+     */
+    private static TranslatedChunk translateSections(ChunkContext context, ClientboundLevelChunkWithLightPacket packet) {
+        final BlockMappings blockMappings = context.blockMappings();
+        final boolean useExtendedCollisions = !blockMappings.getExtendedCollisionBoxes().isEmpty();
+
+        int yOffset = context.yOffset();
+        int chunkSize = context.chunkSize();
 
         DataPalette[] javaChunks = new DataPalette[chunkSize];
         DataPalette[] javaBiomes = new DataPalette[chunkSize];
 
-        final BlockEntityInfo[] blockEntities = packet.getBlockEntities();
-        final List<NbtMap> bedrockBlockEntities = new ObjectArrayList<>(blockEntities.length);
+        final List<BedrockOnlyBlockEntity> bedrockOnlyBlockEntities = new ObjectArrayList<>();
 
         BitSet waterloggedPaletteIds = new BitSet();
         BitSet bedrockOnlyBlockEntityIds = new BitSet();
+        BitSet extendedCollisionPaletteIds = new BitSet();
 
-        BedrockDimension bedrockDimension = session.getBedrockDimension();
+        BedrockDimension bedrockDimension = context.bedrockDimension();
         int maxBedrockSectionY = (bedrockDimension.height() >> 4) - 1;
 
-        int sectionCount;
-        byte[] payload;
-        ByteBuf byteBuf = null;
-
         // calculate the difference between the java dimension minY and the bedrock dimension minY as
         // the java chunk sections may need to be placed higher up in the bedrock chunk section array
         int sectionCountDiff = yOffset - (bedrockDimension.minY() >> 4);
         GeyserChunkSection[] sections = new GeyserChunkSection[chunkSize + sectionCountDiff];
 
-        try {
-            ByteBuf in = Unpooled.wrappedBuffer(packet.getChunkData());
-            boolean extendedCollisionNextSection = false;
-            for (int sectionY = 0; sectionY < chunkSize; sectionY++) {
-                ChunkSection javaSection = MinecraftTypes.readChunkSection(in, BlockRegistries.BLOCK_STATES.get().size(),
-                    session.getRegistryCache().registry(JavaRegistries.BIOME).size());
-                javaChunks[sectionY] = javaSection.getBlockData();
-                javaBiomes[sectionY] = javaSection.getBiomeData();
-                boolean extendedCollision = extendedCollisionNextSection;
-                boolean thisExtendedCollisionNextSection = false;
-
-                int bedrockSectionY = sectionY + sectionCountDiff;
-                int subChunkIndex = sectionY + yOffset;
-                if (bedrockSectionY < 0 || maxBedrockSectionY < bedrockSectionY) {
-                    // Ignore this chunk section since it goes outside the bounds accepted by the Bedrock client
-                    if (useExtendedCollisions) {
-                        EXTENDED_COLLISIONS_STORAGE.get().clear();
-                    }
-                    extendedCollisionNextSection = false;
-                    continue;
-                }
-
-                // No need to encode an empty section...
-                if (javaSection.isBlockCountEmpty()) {
-                    // Unless we need to send extended collisions
-                    if (useExtendedCollisions) {
-                        if (extendedCollision) {
-                            int blocks = EXTENDED_COLLISIONS_STORAGE.get().bottomLayerCollisions() + 1;
-                            BitArray bedrockData = BitArrayVersion.forBitsCeil(Integer.SIZE - Integer.numberOfLeadingZeros(blocks)).createArray(BlockStorage.SIZE);
-                            BlockStorage layer0 = new BlockStorage(bedrockData, new IntArrayList(blocks));
-    
-                            layer0.idFor(session.getBlockMappings().getBedrockAir().getRuntimeId());
-                            for (int yzx = 0; yzx < BlockStorage.SIZE / 16; yzx++) {
-                                if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
-                                    bedrockData.set(indexYZXtoXZY(yzx), layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
-                                    EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
-                                }
-                            }
-    
-                            BlockStorage[] layers = new BlockStorage[]{ layer0 };
-                            sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
-                        }
-                        EXTENDED_COLLISIONS_STORAGE.get().clear();
-                        extendedCollisionNextSection = false;
-                    }
-                    continue;
-                }
+        if (useExtendedCollisions) {
+            // Don't carry over collisions from a chunk that was previously translated on this thread
+            EXTENDED_COLLISIONS_STORAGE.get().clear();
+        }
 
-                Palette javaPalette = javaSection.getBlockData().getPalette();
-                BitStorage javaData = javaSection.getBlockData().getStorage();
+        byte[] chunkData = packet.getChunkData();
+        ByteBuf in = Unpooled.wrappedBuffer(chunkData);
+        boolean extendedCollisionNextSection = false;
+        for (int sectionY = 0; sectionY < chunkSize; sectionY++) {
+            int sectionStart = in.readerIndex();
+            ChunkSection javaSection = MinecraftTypes.readChunkSection(in, BlockRegistries.BLOCK_STATES.get().size(),
+                context.biomeRegistrySize());
+            javaChunks[sectionY] = javaSection.getBlockData();
+            javaBiomes[sectionY] = javaSection.getBiomeData();
+            int sectionLength = in.readerIndex() - sectionStart;
+            if (context.requestSubChunks()) {
+                // Sub-chunks are translated from the chunk cache once the client requests them
+                continue;
+            }
+            boolean extendedCollision = extendedCollisionNextSection;
+            boolean thisExtendedCollisionNextSection = false;
 
-                if (javaPalette instanceof GlobalPalette) {
-                    // As this is the global palette, simply iterate through the whole chunk section once
-                    GeyserChunkSection section = new GeyserChunkSection(session.getBlockMappings().getBedrockAir().getRuntimeId(), subChunkIndex);
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int javaId = javaData.get(yzx);
-                        BlockState state = BlockState.of(javaId);
-                        int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
-                        int xzy = indexYZXtoXZY(yzx);
-                        section.getBlockStorageArray()[0].setFullBlock(xzy, bedrockId);
+            int bedrockSectionY = sectionY + sectionCountDiff;
+            int subChunkIndex = sectionY + yOffset;
+            if (bedrockSectionY < 0 || maxBedrockSectionY < bedrockSectionY) {
+                // Ignore this chunk section since it goes outside the bounds accepted by the Bedrock client
+                if (useExtendedCollisions) {
+                    EXTENDED_COLLISIONS_STORAGE.get().clear();
+                }
+                extendedCollisionNextSection = false;
+                continue;
+            }
 
-                        if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                            section.getBlockStorageArray()[1].setFullBlock(xzy, session.getBlockMappings().getBedrockWater().getRuntimeId());
-                        }
+            // No need to encode an empty section...
+            if (javaSection.isBlockCountEmpty()) {
+                // Unless we need to send extended collisions
+                if (useExtendedCollisions) {
+                    if (extendedCollision) {
+                        int blocks = EXTENDED_COLLISIONS_STORAGE.get().bottomLayerCollisions() + 1;
+                        BitArray bedrockData = BitArrayVersion.forBitsCeil(Integer.SIZE - Integer.numberOfLeadingZeros(blocks)).createArray(BlockStorage.SIZE);
+                        BlockStorage layer0 = new BlockStorage(bedrockData, new IntArrayList(blocks));
 
-                        // Extended collision blocks
-                        if (useExtendedCollisions) {
+                        layer0.idFor(blockMappings.getBedrockAir().getRuntimeId());
+                        for (int yzx = 0; yzx < BlockStorage.SIZE / 16; yzx++) {
                             if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
-                                if (javaId == Block.JAVA_AIR_ID) {
-                                    section.getBlockStorageArray()[0].setFullBlock(xzy, EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY));
-                                }
+                                bedrockData.set(indexYZXtoXZY(yzx), layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
                                 EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
-                                continue;
-                            }
-                            BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings().getExtendedCollisionBoxes().get(javaId);
-                            if (aboveBedrockExtendedCollisionDefinition != null) {
-                                EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
-                                if ((xzy & 0xF) == 15) {
-                                    thisExtendedCollisionNextSection = true;
-                                }
                             }
                         }
 
-                        // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                        if (state.block() instanceof BedrockChunkWantsBlockEntityTag blockEntity) {
-                            bedrockBlockEntities.add(blockEntity.createTag(session,
-                                    Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
-                                    state
-                            ));
-                        }
+                        BlockStorage[] layers = new BlockStorage[]{ layer0 };
+                        sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
                     }
-                    sections[bedrockSectionY] = section;
-                    extendedCollisionNextSection = thisExtendedCollisionNextSection;
-                    continue;
+                    EXTENDED_COLLISIONS_STORAGE.get().clear();
+                    extendedCollisionNextSection = false;
                 }
+                continue;
+            }
 
-                if (javaPalette instanceof SingletonPalette) {
-                    // There's only one block here. Very easy!
-                    int javaId = javaPalette.idToState(0);
-                    int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
-                    BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(bedrockId));
+            Palette javaPalette = javaSection.getBlockData().getPalette();
+            BitStorage javaData = javaSection.getBlockData().getStorage();
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                        BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(session.getBlockMappings().getBedrockWater().getRuntimeId()));
-                        sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage, waterlogged}, subChunkIndex);
-                    } else {
-                        sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage}, subChunkIndex);
+            if (javaPalette instanceof GlobalPalette) {
+                // As this is the global palette, simply iterate through the whole chunk section once
+                GeyserChunkSection section = new GeyserChunkSection(blockMappings.getBedrockAir().getRuntimeId(), subChunkIndex);
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    int javaId = javaData.get(yzx);
+                    long stateInfo = blockMappings.getStateInfo(javaId);
+                    int xzy = indexYZXtoXZY(yzx);
+                    section.getBlockStorageArray()[0].setFullBlock(xzy, BlockMappings.bedrockRuntimeId(stateInfo));
+
+                    if ((stateInfo & BlockMappings.WATERLOGGED) != 0) {
+                        section.getBlockStorageArray()[1].setFullBlock(xzy, blockMappings.getBedrockWater().getRuntimeId());
                     }
+
+                    // Extended collision blocks
                     if (useExtendedCollisions) {
-                        EXTENDED_COLLISIONS_STORAGE.get().clear();
-                        extendedCollisionNextSection = false;
+                        if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
+                            if (javaId == Block.JAVA_AIR_ID) {
+                                section.getBlockStorageArray()[0].setFullBlock(xzy, EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY));
+                            }
+                            EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                            continue;
+                        }
+                        if ((stateInfo & BlockMappings.EXTENDED_COLLISION) != 0) {
+                            BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes().get(javaId);
+                            EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
+                            if ((xzy & 0xF) == 15) {
+                                thisExtendedCollisionNextSection = true;
+                            }
+                        }
+                    }
+
+                    // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
+                    if ((stateInfo & BlockMappings.BEDROCK_BLOCK_ENTITY) != 0) {
+                        BlockState state = BlockState.of(javaId);
+                        bedrockOnlyBlockEntities.add(new BedrockOnlyBlockEntity(
+                                Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
+                                state
+                        ));
                     }
-                    // If a chunk contains all of the same piston or flower pot then god help us
-                    continue;
                 }
+                sections[bedrockSectionY] = section;
+                extendedCollisionNextSection = thisExtendedCollisionNextSection;
+                continue;
+            }
 
-                IntList bedrockPalette = new IntArrayList(javaPalette.size());
-                int airPaletteId = -1;
-                waterloggedPaletteIds.clear();
-                bedrockOnlyBlockEntityIds.clear();
+            if (javaPalette instanceof SingletonPalette) {
+                // There's only one block here. Very easy!
+                long stateInfo = blockMappings.getStateInfo(javaPalette.idToState(0));
+                BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(BlockMappings.bedrockRuntimeId(stateInfo)));
 
-                // Iterate through palette and convert state IDs to Bedrock, doing some additional checks as we go
-                int extendedCollisionsInPalette = 0;
-                for (int i = 0; i < javaPalette.size(); i++) {
-                    int javaId = javaPalette.idToState(i);
-                    bedrockPalette.add(session.getBlockMappings().getBedrockBlockId(javaId));
+                if ((stateInfo & BlockMappings.WATERLOGGED) != 0) {
+                    BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(blockMappings.getBedrockWater().getRuntimeId()));
+                    sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage, waterlogged}, subChunkIndex);
+                } else {
+                    sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage}, subChunkIndex);
+                }
+                if (useExtendedCollisions) {
+                    EXTENDED_COLLISIONS_STORAGE.get().clear();
+                    extendedCollisionNextSection = false;
+                }
+                // If a chunk contains all of the same piston or flower pot then god help us
+                continue;
+            }
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                        waterloggedPaletteIds.set(i);
-                    }
+            IntList bedrockPalette = new IntArrayList(javaPalette.size());
+            int airPaletteId = -1;
+            waterloggedPaletteIds.clear();
+            bedrockOnlyBlockEntityIds.clear();
+            extendedCollisionPaletteIds.clear();
+
+            // Iterate through palette and convert state IDs to Bedrock, doing some additional checks as we go
+            int extendedCollisionsInPalette = 0;
+            for (int i = 0; i < javaPalette.size(); i++) {
+                int javaId = javaPalette.idToState(i);
+                long stateInfo = blockMappings.getStateInfo(javaId);
+                bedrockPalette.add(BlockMappings.bedrockRuntimeId(stateInfo));
+
+                if ((stateInfo & BlockMappings.WATERLOGGED) != 0) {
+                    waterloggedPaletteIds.set(i);
+                }
 
-                    if (javaId == Block.JAVA_AIR_ID) {
-                        airPaletteId = i;
-                    }
+                if (javaId == Block.JAVA_AIR_ID) {
+                    airPaletteId = i;
+                }
 
-                    if (useExtendedCollisions) {
-                        if (session.getBlockMappings().getExtendedCollisionBoxes().get(javaId) != null) {
-                            extendedCollision = true;
-                            extendedCollisionsInPalette++;
-                        }
-                    }
+                if ((stateInfo & BlockMappings.EXTENDED_COLLISION) != 0) {
+                    extendedCollision = true;
+                    extendedCollisionsInPalette++;
+                    extendedCollisionPaletteIds.set(i);
+                }
 
-                    // Check if block is piston, flower or cauldron to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                    // TODO this needs a performance check when my head is clearer
-                    BlockState state = BlockState.of(javaId);
-                    if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
-                        bedrockOnlyBlockEntityIds.set(i);
-                    }
+                // Check if block is piston, flower or cauldron to see if we'll need to create additional block entities, as they're only block entities in Bedrock
+                if ((stateInfo & BlockMappings.BEDROCK_BLOCK_ENTITY) != 0) {
+                    bedrockOnlyBlockEntityIds.set(i);
                 }
+            }
 
-                // Add Bedrock-exclusive block entities
-                // We only if the palette contained any blocks that are Bedrock-exclusive block entities to avoid iterating through the whole block data
-                // for no reason, as most sections will not contain any pistons or flower pots
-                if (!bedrockOnlyBlockEntityIds.isEmpty()) {
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        if (bedrockOnlyBlockEntityIds.get(paletteId)) {
-                            BlockState state = BlockState.of(javaPalette.idToState(paletteId));
-                            bedrockBlockEntities.add(((BedrockChunkWantsBlockEntityTag) state.block()).createTag(session,
-                                    Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
-                                    state
-                            ));
-                        }
+            // Add Bedrock-exclusive block entities
+            // We only if the palette contained any blocks that are Bedrock-exclusive block entities to avoid iterating through the whole block data
+            // for no reason, as most sections will not contain any pistons or flower pots
+            if (!bedrockOnlyBlockEntityIds.isEmpty()) {
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    int paletteId = javaData.get(yzx);
+                    if (bedrockOnlyBlockEntityIds.get(paletteId)) {
+                        BlockState state = BlockState.of(javaPalette.idToState(paletteId));
+                        bedrockOnlyBlockEntities.add(new BedrockOnlyBlockEntity(
+                                Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
+                                state
+                        ));
                     }
                 }
+            }
 
-                // We need to ensure we use enough bits to represent extended collision blocks in the chunk section
-                int sectionCollisionBlocks = 0;
-                if (useExtendedCollisions) {
-                    int bottomLayerCollisions = extendedCollision ? EXTENDED_COLLISIONS_STORAGE.get().bottomLayerCollisions() : 0;
-                    sectionCollisionBlocks = bottomLayerCollisions + extendedCollisionsInPalette;
+            // Sections without extended collisions only depend on their own contents, so another session may have translated them already
+            boolean cacheSection = !extendedCollision && ChunkSectionCache.isEnabled();
+            if (cacheSection) {
+                GeyserChunkSection cachedSection = ChunkSectionCache.get(context.protocolVersion(), chunkData, sectionStart, sectionLength, subChunkIndex);
+                if (cachedSection != null) {
+                    sections[bedrockSectionY] = cachedSection;
+                    extendedCollisionNextSection = false;
+                    continue;
                 }
-                int bedrockDataBits = Integer.SIZE - Integer.numberOfLeadingZeros(javaPalette.size() + sectionCollisionBlocks);
-                BitArray bedrockData = BitArrayVersion.forBitsCeil(bedrockDataBits).createArray(BlockStorage.SIZE);
-                BlockStorage layer0 = new BlockStorage(bedrockData, bedrockPalette);
-                BlockStorage[] layers;
-
-                // Convert data array from YZX to XZY coordinate order
-                if (waterloggedPaletteIds.isEmpty() && !extendedCollision) {
-                    // No blocks are waterlogged, simply convert coordinate order
-                    // This could probably be optimized further...
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-                    }
+            }
 
-                    layers = new BlockStorage[]{ layer0 };
-                } else if (!waterloggedPaletteIds.isEmpty() && !extendedCollision) {
-                    // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
-                    // layer 1 with palette ID 1 indicating water
-                    int[] layer1Data = new int[BlockStorage.SIZE >> 5];
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-
-                        if (waterloggedPaletteIds.get(paletteId)) {
-                            layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
+            // We need to ensure we use enough bits to represent extended collision blocks in the chunk section
+            int sectionCollisionBlocks = 0;
+            if (useExtendedCollisions) {
+                int bottomLayerCollisions = extendedCollision ? EXTENDED_COLLISIONS_STORAGE.get().bottomLayerCollisions() : 0;
+                sectionCollisionBlocks = bottomLayerCollisions + extendedCollisionsInPalette;
+            }
+            int bedrockDataBits = Integer.SIZE - Integer.numberOfLeadingZeros(javaPalette.size() + sectionCollisionBlocks);
+            BitArray bedrockData = BitArrayVersion.forBitsCeil(bedrockDataBits).createArray(BlockStorage.SIZE);
+            BlockStorage layer0 = new BlockStorage(bedrockData, bedrockPalette);
+            BlockStorage[] layers;
+
+            // Convert data array from YZX to XZY coordinate order
+            if (waterloggedPaletteIds.isEmpty() && !extendedCollision) {
+                // No blocks are waterlogged, simply convert coordinate order
+                int[] paletteIds = BitArrayTransposer.unpackJava(javaData.getData(), javaData.getBitsPerEntry());
+                BitArrayTransposer.packXZY(paletteIds, bedrockData);
+
+                layers = new BlockStorage[]{ layer0 };
+            } else if (!waterloggedPaletteIds.isEmpty() && !extendedCollision) {
+                // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
+                // layer 1 with palette ID 1 indicating water
+                int[] paletteIds = BitArrayTransposer.unpackJava(javaData.getData(), javaData.getBitsPerEntry());
+                BitArrayTransposer.packXZY(paletteIds, bedrockData);
+                BitArray layer1Data = BitArrayVersion.V1.createArray(BlockStorage.SIZE);
+                BitArrayTransposer.packXZY(paletteIds, layer1Data, waterloggedPaletteIds);
+
+                // V1 palette
+                IntList layer1Palette = IntList.of(
+                        blockMappings.getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
+                        blockMappings.getBedrockWater().getRuntimeId());
+
+                layers = new BlockStorage[]{ layer0, new BlockStorage(layer1Data, layer1Palette) };
+            } else if (waterloggedPaletteIds.isEmpty()) {
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    int paletteId = javaData.get(yzx);
+                    int xzy = indexYZXtoXZY(yzx);
+                    bedrockData.set(xzy, paletteId);
+
+                    if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
+                        if (paletteId == airPaletteId) {
+                            bedrockData.set(xzy, layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
                         }
+                        EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                        continue;
                     }
-                    
-                    // V1 palette
-                    IntList layer1Palette = IntList.of(
-                            session.getBlockMappings().getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
-                            session.getBlockMappings().getBedrockWater().getRuntimeId());
-
-                    layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
-                } else if (waterloggedPaletteIds.isEmpty()) {
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-
-                        if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
-                            if (paletteId == airPaletteId) {
-                                bedrockData.set(xzy, layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
-                            }
-                            EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
-                            continue;
-                        }
-                        BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings()
-                                .getExtendedCollisionBoxes().get(javaPalette.idToState(paletteId));
-                        if (aboveBedrockExtendedCollisionDefinition != null) {
-                            EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
-                            if ((xzy & 0xF) == 15) {
-                                thisExtendedCollisionNextSection = true;
-                            }
+                    if (extendedCollisionPaletteIds.get(paletteId)) {
+                        BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes()
+                                .get(javaPalette.idToState(paletteId));
+                        EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
+                        if ((xzy & 0xF) == 15) {
+                            thisExtendedCollisionNextSection = true;
                         }
                     }
+                }
 
-                    layers = new BlockStorage[]{ layer0 };
-                } else {
-                    int[] layer1Data = new int[BlockStorage.SIZE >> 5];
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-
-                        if (waterloggedPaletteIds.get(paletteId)) {
-                            layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
-                        }
+                layers = new BlockStorage[]{ layer0 };
+            } else {
+                int[] layer1Data = new int[BlockStorage.SIZE >> 5];
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    int paletteId = javaData.get(yzx);
+                    int xzy = indexYZXtoXZY(yzx);
+                    bedrockData.set(xzy, paletteId);
 
-                        if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
-                            if (paletteId == airPaletteId) {
-                                bedrockData.set(xzy, layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
-                            }
-                            EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
-                            continue;
+                    if (waterloggedPaletteIds.get(paletteId)) {
+                        layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
+                    }
+
+                    if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
+                        if (paletteId == airPaletteId) {
+                            bedrockData.set(xzy, layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
                         }
-                        BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings().getExtendedCollisionBoxes()
+                        EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                        continue;
+                    }
+                    if (extendedCollisionPaletteIds.get(paletteId)) {
+                        BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes()
                                 .get(javaPalette.idToState(paletteId));
-                        if (aboveBedrockExtendedCollisionDefinition != null) {
-                            EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
-                            if ((xzy & 0xF) == 15) {
-                                thisExtendedCollisionNextSection = true;
-                            }
+                        EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
+                        if ((xzy & 0xF) == 15) {
+                            thisExtendedCollisionNextSection = true;
                         }
                     }
+                }
 
-                    // V1 palette
-                    IntList layer1Palette = IntList.of(
-                            session.getBlockMappings().getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
-                            session.getBlockMappings().getBedrockWater().getRuntimeId());
+                // V1 palette
+                IntList layer1Palette = IntList.of(
+                        blockMappings.getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
+                        blockMappings.getBedrockWater().getRuntimeId());
 
-                    layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
-                }
+                layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
+            }
 
+            if (cacheSection) {
+                sections[bedrockSectionY] = ChunkSectionCache.put(context.protocolVersion(), chunkData, sectionStart, sectionLength, layers, subChunkIndex);
+            } else {
                 sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
-                extendedCollisionNextSection = thisExtendedCollisionNextSection;
             }
+            extendedCollisionNextSection = thisExtendedCollisionNextSection;
+        }
+
 
+        return new TranslatedChunk(javaChunks, javaBiomes, sections, bedrockOnlyBlockEntities);
+    }
+
+    /**
+     * Completes the translation of the chunk on the session's event loop, and sends it to the client.
+     */
+    private static void sendChunk(GeyserSession session, ChunkContext context, ClientboundLevelChunkWithLightPacket packet, TranslatedChunk translated) {
+        if (session.isSpawned()) {
+            ChunkUtils.updateChunkPosition(session, session.getPlayerEntity().getPosition().toInt());
+        }
+
+        // Ensure that, if the player is using lower world heights, the position is not offset
+        int yOffset = context.yOffset();
+        int chunkSize = context.chunkSize();
+
+        DataPalette[] javaChunks = translated.javaChunks();
+        DataPalette[] javaBiomes = translated.javaBiomes();
+        GeyserChunkSection[] sections = translated.sections();
+
+        final BlockEntityInfo[] blockEntities = packet.getBlockEntities();
+        final List<BedrockOnlyBlockEntity> bedrockOnlyBlockEntities = translated.bedrockOnlyBlockEntities();
+        final List<NbtMap> bedrockBlockEntities = new ObjectArrayList<>(bedrockOnlyBlockEntities.size() + blockEntities.length);
+        for (BedrockOnlyBlockEntity blockEntity : bedrockOnlyBlockEntities) {
+            BlockState state = blockEntity.state();
+            bedrockBlockEntities.add(((BedrockChunkWantsBlockEntityTag) state.block()).createTag(session, blockEntity.position(), state));
+        }
+
+        BedrockDimension bedrockDimension = context.bedrockDimension();
+        int maxBedrockSectionY = (bedrockDimension.height() >> 4) - 1;
+
+        int sectionCount;
+        ByteBuf payload;
+        ByteBuf byteBuf = null;
+        LongList blobIds = null;
+        CompositeByteBuf compositePayload = null;
+        boolean requestSubChunks = context.requestSubChunks();
+
+        try {
             if (!session.getErosionHandler().isActive()) {
                 session.getChunkCache().addToCache(packet.getX(), packet.getZ(), javaChunks);
             }
@@ -426,8 +494,9 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                         if (blockDefinition != null) {
                             int bedrockSectionY = (y >> 4) - (bedrockDimension.minY() >> 4);
                             int subChunkIndex = (y >> 4) + (bedrockDimension.minY() >> 4);
-                            if (0 <= bedrockSectionY && bedrockSectionY < maxBedrockSectionY) {
+                            if (!requestSubChunks && 0 <= bedrockSectionY && bedrockSectionY < maxBedrockSectionY) {
                                 // Custom skull is in a section accepted by Bedrock
+                                // In sub-chunk request mode, it is placed when its sub-chunk is translated
                                 GeyserChunkSection bedrockSection = sections[bedrockSectionY];
                                 IntList palette = bedrockSection.getBlockStorageArray()[0].getPalette();
                                 if (palette instanceof IntImmutableList || palette instanceof IntLists.Singleton) {
@@ -442,12 +511,17 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 }
             }
 
-            // Find highest section
-            sectionCount = sections.length - 1;
-            while (sectionCount >= 0 && sections[sectionCount] == null) {
-                sectionCount--;
+            if (requestSubChunks) {
+                // No sections have been translated; the client may request every one Bedrock accepts
+                sectionCount = Math.min(sections.length, bedrockDimension.height() >> 4);
+            } else {
+                // Find highest section
+                sectionCount = sections.length - 1;
+                while (sectionCount >= 0 && sections[sectionCount] == null) {
+                    sectionCount--;
+                }
+                sectionCount++;
             }
-            sectionCount++;
 
             // As of 1.18.30, the amount of biomes read is dependent on how high Bedrock thinks the dimension is
             int biomeCount = bedrockDimension.height() >> 4;
@@ -466,45 +540,86 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
             size += 1; // Border blocks
             size += bedrockBlockEntities.size() * 64; // Conservative estimate of 64 bytes per tile entity
 
-            // Allocate output buffer
-            byteBuf = ByteBufAllocator.DEFAULT.ioBuffer(size);
-            for (int i = 0; i < sectionCount; i++) {
-                GeyserChunkSection section = sections[i];
-                if (section != null) {
-                    section.writeToNetwork(byteBuf);
-                } else {
-                    int subChunkIndex = (i + (bedrockDimension.minY() >> 4));
-                    new GeyserChunkSection(EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(byteBuf);
+            BlobCache blobCache = session.getBlobCache();
+            if (requestSubChunks) {
+                // Only the biomes are sent now; the client requests the sub-chunks it needs, which are then translated from the chunk cache
+                session.getSubChunkCache().addColumn(packet.getX(), packet.getZ(), bedrockBlockEntities);
+
+                byteBuf = Unpooled.buffer(ChunkUtils.EMPTY_BIOME_DATA.length * biomeCount + 1);
+                writeBiomes(session, javaBiomes, biomeCount, bedrockDimension, yOffset, chunkSize, byteBuf);
+            } else if (blobCache.isActive()) {
+                // Sub-chunks and biomes are sent as blobs the client may already have stored; only the rest goes into the packet
+                blobIds = new LongArrayList(sectionCount + 1);
+                for (int i = 0; i < sectionCount; i++) {
+                    GeyserChunkSection section = sections[i];
+                    ByteBuf blob;
+                    if (section != null) {
+                        blob = Unpooled.buffer(section.estimateNetworkSize());
+                        section.writeToNetwork(blob);
+                    } else {
+                        blob = Unpooled.buffer(EMPTY_CHUNK_SECTION_SIZE);
+                        int subChunkIndex = (i + (bedrockDimension.minY() >> 4));
+                        new GeyserChunkSection(EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(blob);
+                    }
+                    blobIds.add(blobCache.addBlob(blob));
                 }
-            }
 
-            int dimensionOffset = bedrockDimension.minY() >> 4;
-            for (int i = 0; i < biomeCount; i++) {
-                int biomeYOffset = dimensionOffset + i;
-                if (biomeYOffset < yOffset) {
-                    // Ignore this biome section since it goes below the height of the Java world
-                    byteBuf.writeBytes(ChunkUtils.EMPTY_BIOME_DATA);
-                    continue;
+                ByteBuf biomeBlob = Unpooled.buffer(ChunkUtils.EMPTY_BIOME_DATA.length * biomeCount);
+                writeBiomes(session, javaBiomes, biomeCount, bedrockDimension, yOffset, chunkSize, biomeBlob);
+                blobIds.add(blobCache.addBlob(biomeBlob));
+
+                byteBuf = Unpooled.buffer(1 + bedrockBlockEntities.size() * 64);
+            } else {
+                // Allocate output buffer
+                if (ChunkSectionCache.isEnabled()) {
+                    // Cached sections are referenced as-is; everything else is written into heap buffers in between them
+                    compositePayload = Unpooled.compositeBuffer(sectionCount * 2 + 1);
+                    byteBuf = Unpooled.buffer(size);
+                } else {
+                    byteBuf = ByteBufAllocator.DEFAULT.ioBuffer(size);
                 }
-                if (biomeYOffset >= (chunkSize + yOffset)) {
-                    // This biome section goes above the height of the Java world
-                    // The byte written here is a header that says to carry on the biome data from the previous chunk
-                    byteBuf.writeByte((127 << 1) | 1);
-                    continue;
+                for (int i = 0; i < sectionCount; i++) {
+                    GeyserChunkSection section = sections[i];
+                    if (section != null) {
+                        if (compositePayload != null) {
+                            size -= section.estimateNetworkSize();
+                            if (section.writeToNetwork(byteBuf, compositePayload)) {
+                                byteBuf = Unpooled.buffer(Math.max(size, 256));
+                            }
+                        } else {
+                            section.writeToNetwork(byteBuf);
+                        }
+                    } else {
+                        int subChunkIndex = (i + (bedrockDimension.minY() >> 4));
+                        new GeyserChunkSection(EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(byteBuf);
+                    }
                 }
 
-                BiomeTranslator.toNewBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)]).writeToNetwork(byteBuf);
+                writeBiomes(session, javaBiomes, biomeCount, bedrockDimension, yOffset, chunkSize, byteBuf);
             }
 
             byteBuf.writeByte(0); // Border blocks - Edu edition only
 
-            // Encode tile entities into buffer
-            NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(byteBuf));
-            for (NbtMap blockEntity : bedrockBlockEntities) {
-                nbtStream.writeTag(blockEntity);
+            if (!requestSubChunks) {
+                // Encode tile entities into buffer; in sub-chunk request mode, they are sent with their sub-chunk instead
+                NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(byteBuf));
+                for (NbtMap blockEntity : bedrockBlockEntities) {
+                    nbtStream.writeTag(blockEntity);
+                }
+            }
+            if (blobIds != null || requestSubChunks) {
+                payload = byteBuf;
+                byteBuf = null;
+            } else if (compositePayload != null) {
+                compositePayload.addComponent(true, byteBuf);
+                byteBuf = null;
+                payload = compositePayload;
+                compositePayload = null;
+            } else {
+                byte[] payloadBytes = new byte[byteBuf.readableBytes()];
+                byteBuf.readBytes(payloadBytes);
+                payload = Unpooled.wrappedBuffer(payloadBytes);
             }
-            payload = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(payload);
         } catch (IOException e) {
             session.getGeyser().getLogger().error("IO error while encoding chunk", e);
             return;
@@ -512,14 +627,26 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
             if (byteBuf != null) {
                 byteBuf.release(); // Release buffer to allow buffer pooling to be useful
             }
+            if (compositePayload != null) {
+                // Encoding failed before the payload was complete; this also releases the cached sections it references
+                compositePayload.release();
+            }
         }
 
         LevelChunkPacket levelChunkPacket = new LevelChunkPacket();
-        levelChunkPacket.setSubChunksLength(sectionCount);
-        levelChunkPacket.setCachingEnabled(false);
+        if (requestSubChunks) {
+            levelChunkPacket.setRequestSubChunks(true);
+            levelChunkPacket.setSubChunkLimit(sectionCount);
+        } else {
+            levelChunkPacket.setSubChunksLength(sectionCount);
+        }
+        levelChunkPacket.setCachingEnabled(blobIds != null);
+        if (blobIds != null) {
+            levelChunkPacket.getBlobIds().addAll(blobIds);
+        }
         levelChunkPacket.setChunkX(packet.getX());
         levelChunkPacket.setChunkZ(packet.getZ());
-        levelChunkPacket.setData(Unpooled.wrappedBuffer(payload));
+        levelChunkPacket.setData(payload);
         levelChunkPacket.setDimension(session.getBedrockDimension().bedrockId());
         session.sendUpstreamPacket(levelChunkPacket);
 
@@ -533,6 +660,54 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
         }
     }
 
+    /**
+     * Writes the biomes of every Bedrock sub-chunk of the dimension.
+     */
+    private static void writeBiomes(GeyserSession session, DataPalette[] javaBiomes, int biomeCount, BedrockDimension bedrockDimension,
+                                    int yOffset, int chunkSize, ByteBuf buffer) {
+        int dimensionOffset = bedrockDimension.minY() >> 4;
+        for (int i = 0; i < biomeCount; i++) {
+            int biomeYOffset = dimensionOffset + i;
+            if (biomeYOffset < yOffset) {
+                // Ignore this biome section since it goes below the height of the Java world
+                buffer.writeBytes(ChunkUtils.EMPTY_BIOME_DATA);
+                continue;
+            }
+            if (biomeYOffset >= (chunkSize + yOffset)) {
+                // This biome section goes above the height of the Java world
+                // The byte written here is a header that says to carry on the biome data from the previous chunk
+                buffer.writeByte((127 << 1) | 1);
+                continue;
+            }
+
+            BiomeTranslator.toNewBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)]).writeToNetwork(buffer);
+        }
+    }
+
+    /**
+     * The session state a chunk is translated with, captured on the session's event loop.
+     */
+    private record ChunkContext(BlockMappings blockMappings, int protocolVersion, BedrockDimension bedrockDimension,
+                                int yOffset, int chunkSize, int biomeRegistrySize, boolean requestSubChunks) {
+        ChunkContext(GeyserSession session) {
+            this(session.getBlockMappings(), session.protocolVersion(), session.getBedrockDimension(),
+                session.getChunkCache().getChunkMinY(), session.getChunkCache().getChunkHeightY(),
+                session.getRegistryCache().registry(JavaRegistries.BIOME).size(), session.getSubChunkCache().isActive());
+        }
+    }
+
+    private record TranslatedChunk(DataPalette[] javaChunks, DataPalette[] javaBiomes, GeyserChunkSection[] sections,
+                                   List<BedrockOnlyBlockEntity> bedrockOnlyBlockEntities) {
+    }
+
+    /**
+     * A block that is only a block entity on Bedrock, e.g. a piston or a flower pot.
+     *
+     * @param position Bedrock position of the block
+     */
+    private record BedrockOnlyBlockEntity(Vector3i position, BlockState state) {
+    }
+
     static final class ExtendedCollisionsStorage {
         private int[] data;
         private int sectionY;
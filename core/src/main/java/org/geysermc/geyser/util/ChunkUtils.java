@@ -126,6 +126,7 @@ public class ChunkUtils {
     public static void updateBlock(GeyserSession session, int blockState, Vector3i position) {
         updateBlockClientSide(session, BlockState.of(blockState), position);
         session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState);
+        session.getSubChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState);
     }
 
     /**
@@ -138,6 +139,7 @@ public class ChunkUtils {
     public static void updateBlock(GeyserSession session, BlockState blockState, Vector3i position) {
         updateBlockClientSide(session, blockState, position);
         session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState.javaId());
+        session.getSubChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState.javaId());
     }
 
     /**
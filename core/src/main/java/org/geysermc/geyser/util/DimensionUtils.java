@@ -55,6 +55,7 @@ public class DimensionUtils {
 
         Entity player = session.getPlayerEntity();
 
+        session.getSubChunkCache().clear();
         session.getChunkCache().clear();
         session.getEntityCache().removeAllEntities();
         session.getItemFrameCache().clear();
@@ -30,6 +30,18 @@ import org.cloudburstmc.math.vector.Vector3f;
 
 public class MathUtils {
     public static final double SQRT_OF_TWO = Math.sqrt(2);
+    /**
+     * Every power of ten that can be represented exactly as a double.
+     */
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        double power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
 
     public static Vector3f xYRot(Vector3f velocity, float pitch, float yaw) {
         float pitchCos = TrigMath.cos(pitch);
@@ -187,6 +199,68 @@ public class MathUtils {
         return value;
     }
 
+    /**
+     * Converts a float to the double closest to its shortest decimal representation, as
+     * {@code Double.parseDouble(Float.toString(value))} does, but without formatting a string.
+     * Simply casting a float to a double instead keeps its binary error, e.g. {@code 0.1f} becomes {@code 0.10000000149011612}.
+     *
+     * @param value the float to convert
+     * @return the double closest to the shortest decimal that rounds to the float
+     */
+    public static double floatToShortestDouble(float value) {
+        float abs = Math.abs(value);
+        if (!(abs >= 1.0E-10f && abs < 1.0E7f)) {
+            // Zero, special values, or far outside of the world; these aren't worth the extra code
+            return value == 0 ? value : Double.parseDouble(Float.toString(value));
+        }
+
+        int exponent = 0;
+        if (abs >= 1) {
+            while (abs >= POWERS_OF_TEN[exponent + 1]) {
+                exponent++;
+            }
+        } else {
+            while (abs < 1 / POWERS_OF_TEN[-exponent]) {
+                exponent--;
+            }
+        }
+
+        // A float needs at most 9 significant digits to be represented exactly
+        for (int digits = 1; digits <= 9; digits++) {
+            int scale = digits - 1 - exponent;
+            if (scale < 0) {
+                continue;
+            }
+            // Division of two exact doubles is correctly rounded, so this is the same double that parsing the decimal would give
+            double candidate = Math.rint(abs * POWERS_OF_TEN[scale]) / POWERS_OF_TEN[scale];
+            if ((float) candidate == abs) {
+                return value < 0 ? -candidate : candidate;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Rounds a double to the given amount of decimal places, half to even, in the same way
+     * {@link java.text.DecimalFormat} does - but without formatting and parsing a string.
+     *
+     * @param value the double to round
+     * @param decimalPlaces how many decimal places to keep, at most 22
+     * @return the double closest to the rounded decimal
+     */
+    public static double roundHalfEven(double value, int decimalPlaces) {
+        double scale = POWERS_OF_TEN[decimalPlaces];
+        double product = value * scale;
+        // The product is rounded; its exact error decides cases that would otherwise look like a tie
+        double error = Math.fma(value, scale, -product);
+        double scaled = Math.floor(product);
+        double fraction = product - scaled;
+        if (fraction > 0.5 || (fraction == 0.5 && (error > 0 || (error == 0 && scaled % 2 != 0)))) {
+            scaled++;
+        }
+        return scaled / scale;
+    }
+
     /**
      * Packs a chunk's X and Z coordinates into a single {@code long}.
      *
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.inventory.updater;
+
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
+import org.geysermc.geyser.inventory.Inventory;
+import org.geysermc.geyser.session.GeyserSession;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class InventoryUpdaterTest {
+
+    @Test
+    void pendingContainerReceivesFullContentsOnOpen() {
+        List<BedrockPacket> packets = new ArrayList<>();
+        GeyserSession session = mock(GeyserSession.class);
+        doAnswer(invocation -> packets.add(invocation.getArgument(0))).when(session).sendUpstreamPacket(any());
+        Inventory inventory = mock(Inventory.class, Mockito.CALLS_REAL_METHODS);
+
+        List<ItemData> contents = new ArrayList<>();
+        for (int i = 0; i < 27; i++) {
+            contents.add(mock(ItemData.class));
+        }
+
+        // Virtual inventory that is still waiting to be opened - the client drops these contents
+        inventory.setDisplayed(false);
+        InventoryUpdater.sendContainerContents(session, inventory, contents, true);
+        assertNull(inventory.getSentContents());
+        assertEquals(1, packets.size());
+
+        // The container opens, and the same contents are sent again - these have to be sent in full
+        inventory.setDisplayed(true);
+        packets.clear();
+        InventoryUpdater.sendContainerContents(session, inventory, contents, true);
+        assertEquals(1, packets.size());
+        InventoryContentPacket contentPacket = assertInstanceOf(InventoryContentPacket.class, packets.get(0));
+        assertEquals(contents, contentPacket.getContents());
+
+        // Now that the client has the contents, only changed slots are sent
+        List<ItemData> changed = new ArrayList<>(contents);
+        changed.set(5, mock(ItemData.class));
+        packets.clear();
+        InventoryUpdater.sendContainerContents(session, inventory, changed, true);
+        assertEquals(1, packets.size());
+        InventorySlotPacket slotPacket = assertInstanceOf(InventorySlotPacket.class, packets.get(0));
+        assertEquals(5, slotPacket.getSlot());
+        assertEquals(changed.get(5), slotPacket.getItem());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.item.hashing;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.cloudburstmc.nbt.NbtList;
+import org.cloudburstmc.nbt.NbtMap;
+import org.cloudburstmc.nbt.NbtType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares {@link MinecraftHashEncoder} with a straightforward implementation using Guava's {@link Hashing#crc32c()}.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class MinecraftHashEncoderTest {
+    private final MinecraftHashEncoder encoder = new MinecraftHashEncoder(null);
+
+    @Test
+    void testNumbers() {
+        List<Number> numbers = List.of((byte) 0, (byte) -1, Byte.MAX_VALUE, (short) 300, Short.MIN_VALUE,
+            0, -128, 1023, 1024, -129, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            0L, -5L, Long.MAX_VALUE, Long.MIN_VALUE,
+            0.0F, -0.0F, Float.NaN, Float.POSITIVE_INFINITY, 1.5F,
+            0.0, -0.0, Double.NaN, Double.NEGATIVE_INFINITY, Math.PI);
+        for (Number number : numbers) {
+            assertEquals(Reference.number(number), encoder.number(number), "Hash of " + number.getClass().getSimpleName() + " " + number);
+        }
+    }
+
+    @Test
+    void testStrings() {
+        for (String string : List.of("", "a", "minecraft:diamond_sword", "ünïcödé ✓", "x".repeat(1000))) {
+            assertEquals(Reference.string(string), encoder.string(string), "Hash of string " + string);
+        }
+    }
+
+    @Test
+    void testBooleansAndEmpty() {
+        assertEquals(Reference.HASHER.hashBytes(new byte[]{1}), encoder.empty());
+        assertEquals(Reference.HASHER.hashBytes(new byte[]{13, 0}), encoder.bool(false));
+        assertEquals(Reference.HASHER.hashBytes(new byte[]{13, 1}), encoder.bool(true));
+    }
+
+    @Test
+    void testMaps() {
+        assertEquals(Reference.map(Map.of()), encoder.map(Map.of()));
+        assertEquals(Reference.map(Map.of()), encoder.emptyMap());
+
+        Random random = new Random(1234);
+        for (int size = 1; size < 50; size += 7) {
+            Map<HashCode, HashCode> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                // Random ints make sure hashes with the highest bit set are sorted correctly
+                map.put(HashCode.fromInt(random.nextInt()), HashCode.fromInt(random.nextInt()));
+            }
+            assertEquals(Reference.map(map), encoder.map(map), "Hash of map with " + size + " entries");
+        }
+    }
+
+    @Test
+    void testLists() {
+        List<HashCode> list = new ArrayList<>();
+        assertEquals(Reference.list(list), encoder.list(list));
+        for (int i = 0; i < 20; i++) {
+            list.add(encoder.number(i * 1000));
+        }
+        assertEquals(Reference.list(list), encoder.list(list));
+    }
+
+    @Test
+    void testNbt() {
+        NbtMap map = NbtMap.builder()
+            .putString("hello", "g'day")
+            .putBoolean("nice?", false)
+            .putByte("coolness", (byte) 100)
+            .putFloat("float", -0.0F)
+            .putDouble("double", Double.NaN)
+            .putCompound("geyser", NbtMap.builder()
+                .putString("is", "very cool")
+                .putIntArray("ints", new int[]{1, -2, 3})
+                .build())
+            .putList("a list", NbtType.LIST, List.of(new NbtList<>(NbtType.STRING, "in a list"), new NbtList<>(NbtType.INT, 1, 2, 3)))
+            .putList("compounds", NbtType.COMPOUND, List.of(NbtMap.builder().putLong("long", -1L).build()))
+            .putByteArray("bytes", new byte[]{1, 2, 3})
+            .putLongArray("longs", new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE})
+            .build();
+        assertEquals(Reference.nbtMap(map), encoder.nbtMap(map));
+    }
+
+    @Test
+    void testArrays() {
+        byte[] bytes = new byte[1000];
+        new Random(42).nextBytes(bytes);
+        assertEquals(Reference.byteArray(bytes), encoder.byteArray(bytes));
+        assertEquals(Reference.byteArray(new byte[0]), encoder.byteArray(new byte[0]));
+
+        int[] ints = new Random(43).ints(500).toArray();
+        assertEquals(Reference.intArray(ints), encoder.intArray(ints));
+        assertEquals(Reference.intArray(new int[0]), encoder.intArray(new int[0]));
+
+        long[] longs = new Random(44).longs(300).toArray();
+        assertEquals(Reference.longArray(longs), encoder.longArray(longs));
+        assertEquals(Reference.longArray(new long[0]), encoder.longArray(new long[0]));
+    }
+
+    /**
+     * The encoder as it was written before it streamed into a single checksum, hashing everything with Guava.
+     */
+    private static final class Reference {
+        private static final HashFunction HASHER = Hashing.crc32c();
+        private static final Comparator<HashCode> HASH_COMPARATOR = Comparator.comparingLong(HashCode::padToLong);
+        private static final Comparator<Map.Entry<HashCode, HashCode>> MAP_ENTRY_ORDER = Map.Entry.<HashCode, HashCode>comparingByKey(HASH_COMPARATOR)
+            .thenComparing(Map.Entry.comparingByValue(HASH_COMPARATOR));
+
+        static HashCode number(Number number) {
+            if (number instanceof Byte b) {
+                return HASHER.newHasher(2).putByte((byte) 6).putByte(b).hash();
+            } else if (number instanceof Short s) {
+                return HASHER.newHasher(3).putByte((byte) 7).putShort(s).hash();
+            } else if (number instanceof Integer i) {
+                return HASHER.newHasher(5).putByte((byte) 8).putInt(i).hash();
+            } else if (number instanceof Long l) {
+                return HASHER.newHasher(9).putByte((byte) 9).putLong(l).hash();
+            } else if (number instanceof Float f) {
+                return HASHER.newHasher(5).putByte((byte) 10).putFloat(f).hash();
+            }
+            return HASHER.newHasher(9).putByte((byte) 11).putDouble(number.doubleValue()).hash();
+        }
+
+        static HashCode string(String string) {
+            return HASHER.newHasher().putByte((byte) 12).putInt(string.length()).putUnencodedChars(string).hash();
+        }
+
+        static HashCode map(Map<HashCode, HashCode> map) {
+            Hasher mapHasher = HASHER.newHasher();
+            mapHasher.putByte((byte) 2);
+            map.entrySet().stream()
+                .sorted(MAP_ENTRY_ORDER)
+                .forEach(entry -> mapHasher.putBytes(entry.getKey().asBytes()).putBytes(entry.getValue().asBytes()));
+            mapHasher.putByte((byte) 3);
+            return mapHasher.hash();
+        }
+
+        static HashCode list(List<HashCode> list) {
+            Hasher listHasher = HASHER.newHasher();
+            listHasher.putByte((byte) 4);
+            list.forEach(hash -> listHasher.putBytes(hash.asBytes()));
+            listHasher.putByte((byte) 5);
+            return listHasher.hash();
+        }
+
+        static HashCode nbtMap(NbtMap map) {
+            Map<HashCode, HashCode> hashed = new HashMap<>();
+            for (String key : map.keySet()) {
+                HashCode hashedKey = string(key);
+                Object value = map.get(key);
+                if (value instanceof NbtList<?> list) {
+                    hashed.put(hashedKey, nbtList(list));
+                } else {
+                    map.listenForNumber(key, n -> hashed.put(hashedKey, number(n)));
+                    map.listenForString(key, s -> hashed.put(hashedKey, string(s)));
+                    map.listenForCompound(key, compound -> hashed.put(hashedKey, nbtMap(compound)));
+                    map.listenForByteArray(key, bytes -> hashed.put(hashedKey, byteArray(bytes)));
+                    map.listenForIntArray(key, ints -> hashed.put(hashedKey, intArray(ints)));
+                    map.listenForLongArray(key, longs -> hashed.put(hashedKey, longArray(longs)));
+                }
+            }
+            return map(hashed);
+        }
+
+        static HashCode nbtList(NbtList<?> nbtList) {
+            List<HashCode> hashed = new ArrayList<>();
+            for (Object element : nbtList) {
+                if (element instanceof Number number) {
+                    hashed.add(number(number));
+                } else if (element instanceof String string) {
+                    hashed.add(string(string));
+                } else if (element instanceof NbtList<?> list) {
+                    hashed.add(nbtList(list));
+                } else if (element instanceof NbtMap compound) {
+                    hashed.add(nbtMap(compound));
+                }
+            }
+            return list(hashed);
+        }
+
+        static HashCode byteArray(byte[] bytes) {
+            return HASHER.newHasher().putByte((byte) 14).putBytes(bytes).putByte((byte) 15).hash();
+        }
+
+        static HashCode intArray(int[] ints) {
+            Hasher hasher = HASHER.newHasher().putByte((byte) 16);
+            for (int i : ints) {
+                hasher.putInt(i);
+            }
+            return hasher.putByte((byte) 17).hash();
+        }
+
+        static HashCode longArray(long[] longs) {
+            Hasher hasher = HASHER.newHasher().putByte((byte) 18);
+            for (long l : longs) {
+                hasher.putLong(l);
+            }
+            return hasher.putByte((byte) 19).hash();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.util.ChunkUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BitArrayTransposerTest {
+
+    @Test
+    void testMatchesScalarConversion() {
+        Random random = new Random(4096);
+        for (int javaBits = 1; javaBits <= 8; javaBits++) {
+            int valuesPerLong = Long.SIZE / javaBits;
+            long[] javaData = new long[(BlockStorage.SIZE + valuesPerLong - 1) / valuesPerLong];
+            int[] expected = new int[BlockStorage.SIZE];
+            for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                expected[yzx] = random.nextInt(1 << javaBits);
+                javaData[yzx / valuesPerLong] |= (long) expected[yzx] << ((yzx % valuesPerLong) * javaBits);
+            }
+
+            int[] unpacked = BitArrayTransposer.unpackJava(javaData, javaBits);
+            for (BitArrayVersion version : BitArrayVersion.values()) {
+                if (version == BitArrayVersion.V0 || version.bits < javaBits) {
+                    continue;
+                }
+                BitArray bedrockData = version.createArray(BlockStorage.SIZE);
+                BitArrayTransposer.packXZY(unpacked, bedrockData);
+
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    assertEquals(expected[yzx], bedrockData.get(ChunkUtils.indexYZXtoXZY(yzx)),
+                        "Java bits " + javaBits + ", Bedrock version " + version);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMask() {
+        Random random = new Random(16);
+        long[] javaData = new long[BlockStorage.SIZE / 16];
+        int[] expected = new int[BlockStorage.SIZE];
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            expected[yzx] = random.nextInt(16);
+            javaData[yzx / 16] |= (long) expected[yzx] << ((yzx % 16) * 4);
+        }
+
+        BitSet mask = new BitSet();
+        mask.set(3);
+        mask.set(7);
+
+        BitArray bedrockData = BitArrayVersion.V1.createArray(BlockStorage.SIZE);
+        BitArrayTransposer.packXZY(BitArrayTransposer.unpackJava(javaData, 4), bedrockData, mask);
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            assertEquals(mask.get(expected[yzx]) ? 1 : 0, bedrockData.get(ChunkUtils.indexYZXtoXZY(yzx)));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MathUtilsTest {
+
+    @Test
+    void testFloatToShortestDoubleMatchesString() {
+        Random random = new Random(1024);
+        for (int i = 0; i < 1_000_000; i++) {
+            float value = switch (i % 3) {
+                case 0 -> (random.nextFloat() - 0.5f) * 60_000_000f;
+                case 1 -> (random.nextInt(4000) - 2000) + random.nextInt(100_000) / 100_000f;
+                default -> Float.intBitsToFloat(random.nextInt());
+            };
+            if (!Float.isFinite(value)) {
+                continue;
+            }
+            assertEquals(Double.parseDouble(Float.toString(value)), MathUtils.floatToShortestDouble(value), "Mismatch for " + value);
+        }
+        assertEquals(0.1, MathUtils.floatToShortestDouble(0.1f));
+        assertEquals(-0.0, MathUtils.floatToShortestDouble(-0.0f));
+    }
+
+    @Test
+    void testRoundHalfEvenMatchesDecimalFormat() {
+        DecimalFormat format = new DecimalFormat("#.#####", new DecimalFormatSymbols(Locale.ENGLISH));
+        Random random = new Random(2048);
+        for (int i = 0; i < 1_000_000; i++) {
+            double value = (random.nextDouble() - 0.5) * 60_000;
+            if (i % 2 == 0) {
+                // Values right next to a tie
+                value = Math.round(value * 1_000_000) / 1_000_000.0 + 0.000005;
+            }
+            if (Math.abs(value) < 0.00001) {
+                // DecimalFormat does not round these by their exact binary value
+                continue;
+            }
+            assertEquals(Double.parseDouble(format.format(value)), MathUtils.roundHalfEven(value, 5), "Mismatch for " + value);
+        }
+    }
+}